@@ -2,4 +2,12 @@ dependencies {
     compileOnly(libs.leyneck)
     compileOnly(libs.jetanno)
     compileOnly(libs.adventureApi)
-}
\ No newline at end of file
+
+    testImplementation(platform("org.junit:junit-bom:5.11.4"))
+    testImplementation("org.junit.jupiter:junit-jupiter")
+    testRuntimeOnly("org.junit.platform:junit-platform-launcher")
+}
+
+tasks.named<Test>("test") {
+    useJUnitPlatform()
+}
@@ -0,0 +1,53 @@
+/**
+ * LECP-LICENSE NOTICE
+ * <br><br>
+ * This Sourcecode is under the LECP-LICENSE. <br>
+ * License at: <a href="https://github.com/leycm/leycm/blob/main/LICENSE">GITHUB</a>
+ * <br><br>
+ * Copyright (c) LeyCM <a href="mailto:leycm@proton.me">leycm@proton.me</a> l <br>
+ * Copyright (c) maintainers <br>
+ * Copyright (c) contributors
+ */
+package de.leycm.linguae;
+
+import de.leycm.linguae.mapping.MappingRule;
+import de.leycm.linguae.mapping.MessageTemplate;
+
+import lombok.NonNull;
+
+import java.util.Locale;
+import java.util.function.Function;
+
+/**
+ * A translation key and its fallback bound to the {@link LinguaeProvider} translating them.
+ *
+ * <p>Obtained through {@link LinguaeProvider#bind(String, Function)}. Labels hold one for
+ * their whole lifetime, so providers can keep whatever speeds up rendering the same key
+ * again next to it. Implementations must be thread-safe.</p>
+ *
+ * @see LinguaeProvider#bind(String, Function)
+ * @since 1.3.0
+ * @author Lennard [leycm@proton.me]
+ */
+public interface BoundTranslation {
+
+    /**
+     * Translates the bound key like {@link LinguaeProvider#translate(String, Function, Locale)}.
+     *
+     * @param locale the target locale
+     * @return the translation, or the fallback's result
+     * @throws NullPointerException if locale is null
+     */
+    @NonNull String translate(@NonNull Locale locale);
+
+    /**
+     * Compiles the bound key like {@link LinguaeProvider#template(String, Function, Locale, MappingRule)}.
+     *
+     * @param locale the target locale
+     * @param rule the rule used to detect placeholders
+     * @return the parsed translation, never null
+     * @throws NullPointerException if locale or rule is null
+     */
+    @NonNull MessageTemplate template(@NonNull Locale locale,
+                                      @NonNull MappingRule rule);
+}
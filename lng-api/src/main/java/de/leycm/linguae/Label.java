@@ -13,10 +13,17 @@ package de.leycm.linguae;
 import de.leycm.linguae.mapping.Mapping;
 import de.leycm.linguae.mapping.MappingRule;
 import de.leycm.linguae.mapping.Mappings;
+import de.leycm.linguae.mapping.MessageTemplate;
 
 import lombok.NonNull;
+import org.jetbrains.annotations.CheckReturnValue;
 
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
@@ -57,6 +64,18 @@ import java.util.function.Supplier;
  * String rendered = message.mapped(); // e.g. "Welcome, Alice! You have 3 messages."
  * }</pre>
  *
+ * <p>{@code withMapping} never modifies the label it is called on, so a {@code static final}
+ * label can be shared and bound once per message. The returned label wraps the original one,
+ * which {@link #base()} returns.</p>
+ *
+ * <p><b>Migrating from 1.2:</b> {@code withMapping} used to add the mapping to the label it was
+ * called on. Since 1.3.0 it returns a new label instead, so callers ignoring the returned label
+ * lose the mapping and have to use the returned label instead:</p>
+ * <pre>{@code
+ * label.withMapping("name", name);         // before: the mapping was added to label
+ * label = label.withMapping("name", name); // now
+ * }</pre>
+ *
  * <p>Implementations must be immutable and thread-safe.</p>
  *
  * @see LinguaeProvider
@@ -197,7 +216,8 @@ public interface Label {
     @NonNull LinguaeProvider provider();
 
     /**
-     * Returns the {@link Mappings} currently registered on this label.
+     * Returns the {@link Mappings} registered on this label, including those added
+     * through {@link #withMapping}.
      *
      * <p>Mappings define placeholder substitutions applied by {@link #mapped(Locale)}
      * and related methods.</p>
@@ -206,6 +226,20 @@ public interface Label {
      */
     @NonNull Mappings mappings();
 
+    /**
+     * Returns the label this label was bound from through {@link #withMapping}.
+     *
+     * <p>Labels returned by {@code withMapping} wrap the label they were created from, so
+     * callers inspecting a concrete label type, such as serializers, should check the base
+     * label instead. Labels that were not created by {@code withMapping} return themselves.</p>
+     *
+     * @return the label without the mappings added by {@code withMapping}; never {@code null}
+     * @since 1.3.0
+     */
+    default @NonNull Label base() {
+        return this;
+    }
+
     /**
      * Registers a placeholder mapping using the provider's default {@link MappingRule}.
      *
@@ -214,9 +248,10 @@ public interface Label {
      *
      * @param key   the placeholder key to replace; must not be {@code null}
      * @param value the substitution value; must not be {@code null}
-     * @return this label instance; never {@code null}
+     * @return a label bound to the mapping; never {@code null}
      * @throws NullPointerException if {@code key} or {@code value} is {@code null}
      */
+    @CheckReturnValue
     default @NonNull Label withMapping(final @NonNull String key,
                                        final @NonNull Object value) {
         return withMapping(key, () -> value);
@@ -230,9 +265,10 @@ public interface Label {
      *
      * @param key      the placeholder key to replace; must not be {@code null}
      * @param supplier a supplier for the substitution value; must not be {@code null}
-     * @return this label instance; never {@code null}
+     * @return a label bound to the mapping; never {@code null}
      * @throws NullPointerException if {@code key} or {@code supplier} is {@code null}
      */
+    @CheckReturnValue
     default @NonNull Label withMapping(final @NonNull String key,
                                        final @NonNull Supplier<Object> supplier) {
         return withMapping(provider().getMappingRule(), key, supplier);
@@ -248,9 +284,10 @@ public interface Label {
      *                 must not be {@code null}
      * @param key      the placeholder key to replace; must not be {@code null}
      * @param supplier a supplier for the substitution value; must not be {@code null}
-     * @return this label instance; never {@code null}
+     * @return a label bound to the mapping; never {@code null}
      * @throws NullPointerException if {@code rule}, {@code key}, or {@code supplier} is {@code null}
      */
+    @CheckReturnValue
     default @NonNull Label withMapping(final @NonNull MappingRule rule,
                                        final @NonNull String key,
                                        final @NonNull Supplier<Object> supplier) {
@@ -260,13 +297,20 @@ public interface Label {
     /**
      * Registers a pre-built {@link Mapping} on this label.
      *
+     * <p>This label is left unchanged: the returned label is a lightweight view that shares
+     * this label and renders with the given mapping added to its own. Constant labels can
+     * therefore be bound concurrently, e.g. once per message.</p>
+     *
+     * <p>Before 1.3.0 the mapping was added to this label. Callers relying on that have to
+     * use the returned label now, see the migration note on {@link Label}.</p>
+     *
      * @param mapping the mapping to add; must not be {@code null}
-     * @return this label instance; never {@code null}
+     * @return a label bound to the mapping; never {@code null}
      * @throws NullPointerException if {@code mapping} is {@code null}
      */
+    @CheckReturnValue
     default @NonNull Label withMapping(final @NonNull Mapping mapping) {
-        mappings().add(mapping);
-        return this;
+        return new MappedLabel(this, mappings().add(mapping));
     }
 
     /**
@@ -348,7 +392,9 @@ public interface Label {
      * @see #in(Locale)
      */
     default @NonNull String mapped(final @NonNull Locale locale) {
-        return mappings().apply(in(locale));
+        final Mappings mappings = mappings();
+        if (mappings.isEmpty()) return in(locale);
+        return mappings.apply(template(locale, provider().getMappingRule()));
     }
 
     /**
@@ -377,7 +423,52 @@ public interface Label {
      * @see #in(Locale, Class)
      */
     default <T> @NonNull T mapped(final @NonNull Locale locale, final @NonNull Class<T> type) {
-        return provider().format(mappings().apply(in(locale)), type);
+        return provider().format(mapped(locale), type);
+    }
+
+    /**
+     * Renders this label for several locales at once and applies all registered mappings,
+     * e.g. to broadcast one message to many recipients.
+     *
+     * <p>Each distinct locale is rendered once, no matter how often it occurs in
+     * {@code locales}, and each mapping supplier is evaluated at most once for the whole
+     * batch, so every locale sees the same values.</p>
+     *
+     * @param locales the target locales, may contain duplicates; must not be {@code null}
+     * @return the rendered strings by locale, in the order the locales first occur;
+     *         never {@code null}
+     * @throws NullPointerException if {@code locales} is or contains {@code null}
+     * @see #mapped(Locale)
+     */
+    default @NonNull Map<Locale, String> mappedForAll(final @NonNull Collection<Locale> locales) {
+        final Mappings mappings = mappings().memoized();
+        final MappingRule rule = provider().getMappingRule();
+        final Map<Locale, String> rendered = new LinkedHashMap<>();
+
+        for (final Locale locale : locales) {
+            if (rendered.containsKey(Objects.requireNonNull(locale, "locale"))) continue;
+            rendered.put(locale, mappings.isEmpty() ? in(locale) : mappings.apply(template(locale, rule)));
+        }
+        return Collections.unmodifiableMap(rendered);
+    }
+
+    /**
+     * Renders this label for the given locale as a parsed {@link MessageTemplate},
+     * <em>without</em> applying mappings.
+     *
+     * <p>The default implementation parses {@link #in(Locale)} on every call.
+     * Translatable labels delegate to {@link LinguaeProvider#template} so the
+     * provider can reuse templates it has already parsed.</p>
+     *
+     * @param locale the target locale; must not be {@code null}
+     * @param rule   the rule used to detect placeholders; must not be {@code null}
+     * @return the parsed template; never {@code null}
+     * @throws NullPointerException if {@code locale} or {@code rule} is {@code null}
+     * @see Mappings#apply(MessageTemplate)
+     */
+    default @NonNull MessageTemplate template(final @NonNull Locale locale,
+                                              final @NonNull MappingRule rule) {
+        return MessageTemplate.compile(in(locale), rule);
     }
 
     // -------------------------------------------------------------------------
@@ -12,6 +12,7 @@ package de.leycm.linguae;
 
 import de.leycm.linguae.exeption.FormatException;
 import de.leycm.linguae.mapping.MappingRule;
+import de.leycm.linguae.mapping.MessageTemplate;
 
 import de.leycm.linguae.source.LinguaeSource;
 import de.leycm.neck.instance.Initializable;
@@ -21,8 +22,11 @@ import net.kyori.adventure.text.Component;
 import org.jetbrains.annotations.Contract;
 
 import java.text.ParseException;
+import java.util.Collection;
+import java.util.List;
 import java.util.Locale;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Function;
 
 /**
@@ -151,6 +155,57 @@ public interface LinguaeProvider extends Initializable {
                               @NonNull Function<Locale, String> fallback,
                               @NonNull Locale locale);
 
+    /**
+     * Translates a key in the specified locale and returns it as a parsed {@link MessageTemplate}.
+     *
+     * <p>The default implementation parses the result of {@link #translate(String, Function, Locale)}<br>
+     * on every call. Implementations are encouraged to cache templates next to their translations.</p>
+     *
+     * @param key the translation key
+     * @param fallback the fallback function to generate text when translation is missing
+     * @param locale the target locale
+     * @param rule the rule used to detect placeholders
+     * @return the parsed translation, never null
+     * @throws NullPointerException if any argument is null
+     */
+    default @NonNull MessageTemplate template(final @NonNull String key,
+                                              final @NonNull Function<Locale, String> fallback,
+                                              final @NonNull Locale locale,
+                                              final @NonNull MappingRule rule) {
+        return MessageTemplate.compile(translate(key, fallback, locale), rule);
+    }
+
+    /**
+     * Binds a translation key and its fallback to this provider.
+     *
+     * <p>Labels bind their key once and render through the returned translation, which<br>
+     * lets providers keep per-key state such as a resolved key id next to the label.</p>
+     *
+     * <p>The default implementation delegates every call to {@link #translate(String, Function, Locale)}<br>
+     * and {@link #template(String, Function, Locale, MappingRule)}.</p>
+     *
+     * @param key the translation key
+     * @param fallback the fallback function to generate text when translation is missing
+     * @return the bound translation, never null
+     * @throws NullPointerException if key or fallback is null
+     * @since 1.3.0
+     */
+    default @NonNull BoundTranslation bind(final @NonNull String key,
+                                           final @NonNull Function<Locale, String> fallback) {
+        return new BoundTranslation() {
+            @Override
+            public @NonNull String translate(final @NonNull Locale locale) {
+                return LinguaeProvider.this.translate(key, fallback, locale);
+            }
+
+            @Override
+            public @NonNull MessageTemplate template(final @NonNull Locale locale,
+                                                     final @NonNull MappingRule rule) {
+                return LinguaeProvider.this.template(key, fallback, locale, rule);
+            }
+        };
+    }
+
     /**
      * Serializes a Label into another extern type.
      *
@@ -197,6 +252,38 @@ public interface LinguaeProvider extends Initializable {
                           @NonNull Class<T> type
     ) throws FormatException;
 
+    /**
+     * Loads the translations of the given locales ahead of their first use.
+     *
+     * <p>Locales are loaded in parallel on the provider's executor, so servers can warm<br>
+     * their locales during startup instead of on the first translation request.<br>
+     * Locales that are already loaded are not loaded again.</p>
+     *
+     * <p>The default implementation loads nothing and completes immediately, which suits<br>
+     * providers that do not cache translations. Caching providers should override it.</p>
+     *
+     * @param locales the locales to load, must not be {@code null}
+     * @return a future completing once every locale is loaded, or exceptionally<br>
+     *         if any of them failed to load
+     * @since 1.3.0
+     */
+    default @NonNull CompletableFuture<Void> preload(final @NonNull Collection<Locale> locales) {
+        return CompletableFuture.completedFuture(null);
+    }
+
+    /**
+     * Loads the translations of every locale the source supports.
+     *
+     * <p>Equivalent to {@link #preload(Collection)} with<br>
+     * {@link LinguaeSource#getSupportedLanguages()}.</p>
+     *
+     * @return a future completing once every supported locale is loaded
+     * @since 1.3.0
+     */
+    default @NonNull CompletableFuture<Void> preloadAll() {
+        return preload(getSource().getSupportedLanguages());
+    }
+
     /**
      * Clears all cached translations for all languages.
      *
@@ -215,4 +302,23 @@ public interface LinguaeProvider extends Initializable {
      * @param locale the {@link Locale} to clear cached translations for, must not be {@code null}
      */
     void clearCache(@NonNull Locale locale);
+
+    /**
+     * Loads the translations of the specified language again without dropping them first.
+     *
+     * <p>Every loaded locale falling back to the given one keeps serving its current<br>
+     * translations until the new ones are completely loaded, which then replace them<br>
+     * at once. Translation requests never block on or observe a partial reload.</p>
+     *
+     * <p>The default implementation clears the locale and loads it again.</p>
+     *
+     * @param locale the {@link Locale} to reload, must not be {@code null}
+     * @return a future completing once the new translations are in use, or exceptionally<br>
+     *         if loading failed, in which case the previous translations stay in use
+     * @since 1.3.0
+     */
+    default @NonNull CompletableFuture<Void> reload(final @NonNull Locale locale) {
+        clearCache(locale);
+        return preload(List.of(locale));
+    }
 }
\ No newline at end of file
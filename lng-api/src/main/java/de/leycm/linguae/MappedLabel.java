@@ -0,0 +1,92 @@
+/**
+ * LECP-LICENSE NOTICE
+ * <br><br>
+ * This Sourcecode is under the LECP-LICENSE. <br>
+ * License at: <a href="https://github.com/leycm/leycm/blob/main/LICENSE">GITHUB</a>
+ * <br><br>
+ * Copyright (c) LeyCM <a href="mailto:leycm@proton.me">leycm@proton.me</a> l <br>
+ * Copyright (c) maintainers <br>
+ * Copyright (c) contributors
+ */
+package de.leycm.linguae;
+
+import de.leycm.linguae.mapping.Mapping;
+import de.leycm.linguae.mapping.MappingRule;
+import de.leycm.linguae.mapping.Mappings;
+import de.leycm.linguae.mapping.MessageTemplate;
+
+import lombok.NonNull;
+
+import java.util.Locale;
+
+/**
+ * A {@link Label} bound to placeholder mappings, returned by {@link Label#withMapping(Mapping)}.
+ *
+ * <p>The view renders through its base label and only adds its own mappings on top of the
+ * base label's mappings. The base label is never modified, so a constant label can be bound
+ * concurrently by many threads. Binding a view again shares the base label and derives
+ * new {@link Mappings}, leaving the previous view unchanged. {@link #base()} returns the
+ * wrapped label.</p>
+ *
+ * @since 1.3.0
+ * @author Lennard [leycm@proton.me]
+ */
+final class MappedLabel implements Label {
+
+    private final Label base;
+    private final Mappings mappings;
+
+    MappedLabel(final @NonNull Label base,
+                final @NonNull Mappings mappings) {
+        this.base = base;
+        this.mappings = mappings;
+    }
+
+    @Override
+    public @NonNull LinguaeProvider provider() {
+        return base.provider();
+    }
+
+    @Override
+    public @NonNull Mappings mappings() {
+        return mappings;
+    }
+
+    @Override
+    public @NonNull Label base() {
+        return base;
+    }
+
+    @Override
+    public @NonNull Label withMapping(final @NonNull Mapping mapping) {
+        return new MappedLabel(base, mappings.add(mapping));
+    }
+
+    @Override
+    public @NonNull String in(final @NonNull Locale locale) {
+        return base.in(locale);
+    }
+
+    @Override
+    public @NonNull MessageTemplate template(final @NonNull Locale locale,
+                                             final @NonNull MappingRule rule) {
+        return base.template(locale, rule);
+    }
+
+    @Override
+    public @NonNull String toString() {
+        return provider().serialize(this, String.class);
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        if (this == obj) return true;
+        if (!(obj instanceof MappedLabel that)) return false;
+        return base.equals(that.base) && mappings.equals(that.mappings);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * base.hashCode() + mappings.hashCode();
+    }
+}
@@ -0,0 +1,78 @@
+/**
+ * LECP-LICENSE NOTICE
+ * <br><br>
+ * This Sourcecode is under the LECP-LICENSE. <br>
+ * License at: <a href="https://github.com/leycm/leycm/blob/main/LICENSE">GITHUB</a>
+ * <br><br>
+ * Copyright (c) LeyCM <a href="mailto:leycm@proton.me">leycm@proton.me</a> l <br>
+ * Copyright (c) maintainers <br>
+ * Copyright (c) contributors
+ */
+package de.leycm.linguae.mapping;
+
+import lombok.NonNull;
+
+/**
+ * {@link PlaceholderScanner} for a literal prefix and suffix.
+ *
+ * <p>With a suffix, the key is every character up to the first occurrence of the
+ * suffix' first character, which must then start the full suffix. Without a suffix,
+ * the key is the longest run of {@code [A-Za-z0-9_]} after the prefix.</p>
+ *
+ * @since 1.3.0
+ * @author Lennard [leycm@proton.me]
+ */
+final class LiteralPlaceholderScanner implements PlaceholderScanner {
+
+    private final String prefix;
+    private final String suffix;
+
+    LiteralPlaceholderScanner(final @NonNull String prefix,
+                              final @NonNull String suffix) {
+        this.prefix = prefix;
+        this.suffix = suffix;
+    }
+
+    @Override
+    public boolean find(final @NonNull String text, final int from, final int @NonNull [] bounds) {
+        int start = text.indexOf(prefix, from);
+
+        while (start >= 0) {
+            final int keyStart = start + prefix.length();
+            final int keyEnd = suffix.isEmpty()
+                    ? identifierEnd(text, keyStart)
+                    : text.indexOf(suffix.charAt(0), keyStart);
+
+            if (keyEnd > keyStart) {
+                if (suffix.isEmpty()) return found(bounds, start, keyStart, keyEnd, keyEnd);
+                if (text.startsWith(suffix, keyEnd))
+                    return found(bounds, start, keyStart, keyEnd, keyEnd + suffix.length());
+            } else if (keyEnd < 0) {
+                return false; // note: no suffix left, so no later prefix can match either
+            }
+
+            start = text.indexOf(prefix, start + 1);
+        }
+
+        return false;
+    }
+
+    private static int identifierEnd(final @NonNull String text, int index) {
+        while (index < text.length()) {
+            final char c = text.charAt(index);
+            if ((c < 'a' || c > 'z') && (c < 'A' || c > 'Z') && (c < '0' || c > '9') && c != '_') break;
+            index++;
+        }
+        return index;
+    }
+
+    private static boolean found(final int @NonNull [] bounds,
+                                 final int start, final int keyStart,
+                                 final int keyEnd, final int end) {
+        bounds[START] = start;
+        bounds[KEY_START] = keyStart;
+        bounds[KEY_END] = keyEnd;
+        bounds[END] = end;
+        return true;
+    }
+}
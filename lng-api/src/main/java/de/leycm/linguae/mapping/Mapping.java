@@ -13,7 +13,6 @@ package de.leycm.linguae.mapping;
 import lombok.NonNull;
 
 import java.util.function.Supplier;
-import java.util.regex.Matcher;
 
 /**
  * Represents a single placeholder mapping rule.
@@ -50,18 +49,25 @@ public record Mapping(@NonNull MappingRule rule,
      * @throws NullPointerException if text is null
      */
     public @NonNull String apply(final @NonNull String text) {
-        final Matcher matcher = rule.getPattern().matcher(text);
-        final StringBuilder result = new StringBuilder(text.length());
+        final PlaceholderScanner scanner = rule.getScanner();
+        final int[] bounds = new int[4];
+        StringBuilder result = null;
 
         int lastEnd = 0;
-        while (matcher.find()) {
-            if (!matcher.group(1).equals(key)) continue;
-            result.append(text, lastEnd, matcher.start());
+        int from = 0;
+        while (scanner.find(text, from, bounds)) {
+            from = bounds[PlaceholderScanner.END];
+            final int keyStart = bounds[PlaceholderScanner.KEY_START];
+            final int keyLength = bounds[PlaceholderScanner.KEY_END] - keyStart;
+            if (keyLength != key.length() || !key.regionMatches(0, text, keyStart, keyLength)) continue;
+
+            if (result == null) result = new StringBuilder(text.length());
+            result.append(text, lastEnd, bounds[PlaceholderScanner.START]);
             result.append(value.get());
-            lastEnd = matcher.end();
+            lastEnd = from;
         }
 
-        if (lastEnd == 0) return text;
+        if (result == null) return text;
 
         result.append(text, lastEnd, text.length());
         return result.toString();
@@ -0,0 +1,172 @@
+/**
+ * LECP-LICENSE NOTICE
+ * <br><br>
+ * This Sourcecode is under the LECP-LICENSE. <br>
+ * License at: <a href="https://github.com/leycm/leycm/blob/main/LICENSE">GITHUB</a>
+ * <br><br>
+ * Copyright (c) LeyCM <a href="mailto:leycm@proton.me">leycm@proton.me</a> l <br>
+ * Copyright (c) maintainers <br>
+ * Copyright (c) contributors
+ */
+package de.leycm.linguae.mapping;
+
+import lombok.NonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Hash index over a fixed list of {@link Mapping Mappings}, used to substitute
+ * all placeholders of a text in one scan per {@link MappingRule}.
+ *
+ * <p>Placeholder keys are looked up directly in the scanned text by hashing the
+ * key region, so no substring is allocated per placeholder. When several mappings
+ * share a rule and key, the first one added wins.</p>
+ *
+ * <p>Instances are immutable and thread-safe. Each render evaluates every
+ * {@link Mapping#value()} supplier at most once.</p>
+ *
+ * @since 1.3.0
+ * @author Lennard [leycm@proton.me]
+ */
+final class MappingIndex {
+
+    private final Mapping[] mappings;
+    private final MappingRule[] rules;
+    private final int[] table;
+    private final int mask;
+
+    MappingIndex(final @NonNull Mapping[] mappings) {
+        // note: the array is owned by an immutable Mappings and never written again
+        this.mappings = mappings;
+
+        final List<MappingRule> rules = new ArrayList<>();
+        int capacity = 2;
+        while (capacity < this.mappings.length << 1) capacity <<= 1;
+        this.table = new int[capacity];
+        this.mask = capacity - 1;
+
+        for (int slot = 0; slot < this.mappings.length; slot++) {
+            final Mapping mapping = this.mappings[slot];
+            if (!rules.contains(mapping.rule())) rules.add(mapping.rule());
+            if (find(mapping.rule(), mapping.key(), 0, mapping.key().length()) >= 0) continue;
+
+            int i = hash(mapping.rule(), mapping.key(), 0, mapping.key().length()) & mask;
+            while (table[i] != 0) i = (i + 1) & mask;
+            table[i] = slot + 1;
+        }
+
+        this.rules = rules.toArray(MappingRule[]::new);
+    }
+
+    /**
+     * Substitutes every known placeholder in the text, one scan per distinct rule.
+     *
+     * @param text the text to process
+     * @return the processed text, or {@code text} itself if nothing was replaced
+     */
+    @NonNull String apply(final @NonNull String text) {
+        final String[] values = new String[mappings.length];
+        final int[] bounds = new int[4];
+        String result = text;
+
+        for (final MappingRule rule : rules)
+            result = substitute(result, rule, values, bounds);
+
+        return result;
+    }
+
+    /**
+     * Renders a template, then substitutes mappings of any other rule in the result.
+     *
+     * @param template the template to render
+     * @return the rendered text, never null
+     */
+    @NonNull String apply(final @NonNull MessageTemplate template) {
+        final MappingRule rule = template.rule();
+        final String source = template.source();
+        final String[] values = new String[mappings.length];
+        String result = source;
+
+        if (template.size() != 0) {
+            final StringBuilder builder = new StringBuilder(source.length() + (template.size() << 4));
+
+            for (int i = 0; i < template.size(); i++) {
+                builder.append(template.literal(i));
+                final String key = template.key(i);
+                final int slot = find(rule, key, 0, key.length());
+                if (slot < 0) builder.append(source, template.start(i), template.end(i));
+                else builder.append(value(values, slot));
+            }
+
+            builder.append(template.literal(template.size()));
+            result = builder.toString();
+        }
+
+        if (rules.length == 1 && rules[0].equals(rule)) return result;
+
+        final int[] bounds = new int[4];
+        for (final MappingRule other : rules)
+            if (!other.equals(rule)) result = substitute(result, other, values, bounds);
+
+        return result;
+    }
+
+    private @NonNull String substitute(final @NonNull String text,
+                                       final @NonNull MappingRule rule,
+                                       final @NonNull String[] values,
+                                       final int @NonNull [] bounds) {
+        final PlaceholderScanner scanner = rule.getScanner();
+        StringBuilder builder = null;
+        int lastEnd = 0;
+        int from = 0;
+
+        while (scanner.find(text, from, bounds)) {
+            from = bounds[PlaceholderScanner.END];
+            final int slot = find(rule, text, bounds[PlaceholderScanner.KEY_START], bounds[PlaceholderScanner.KEY_END]);
+            if (slot < 0) continue;
+
+            if (builder == null) builder = new StringBuilder(text.length() + 16);
+            builder.append(text, lastEnd, bounds[PlaceholderScanner.START]);
+            builder.append(value(values, slot));
+            lastEnd = from;
+        }
+
+        if (builder == null) return text;
+        builder.append(text, lastEnd, text.length());
+        return builder.toString();
+    }
+
+    private int find(final @NonNull MappingRule rule,
+                     final @NonNull String text,
+                     final int start, final int end) {
+        final int length = end - start;
+        int i = hash(rule, text, start, end) & mask;
+
+        int entry;
+        while ((entry = table[i]) != 0) {
+            final Mapping mapping = mappings[entry - 1];
+            if (mapping.key().length() == length
+                    && mapping.rule().equals(rule)
+                    && mapping.key().regionMatches(0, text, start, length))
+                return entry - 1;
+            i = (i + 1) & mask;
+        }
+
+        return -1;
+    }
+
+    private @NonNull String value(final @NonNull String[] values, final int slot) {
+        String value = values[slot];
+        if (value == null) values[slot] = value = String.valueOf(mappings[slot].value().get());
+        return value;
+    }
+
+    private static int hash(final @NonNull MappingRule rule,
+                            final @NonNull String text,
+                            final int start, final int end) {
+        int h = rule.hashCode();
+        for (int i = start; i < end; i++) h = 31 * h + text.charAt(i);
+        return h ^ (h >>> 16);
+    }
+}
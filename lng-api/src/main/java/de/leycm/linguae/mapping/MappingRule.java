@@ -17,8 +17,10 @@ import java.util.regex.Pattern;
 /**
  * Defines a pattern for placeholder mapping with prefix and suffix delimiters.
  *
- * <p>Provides commonly used placeholder patterns as static constants and compiles
- * efficient regex patterns for placeholder detection and replacement.</p>
+ * <p>Provides commonly used placeholder patterns as static constants. Placeholders
+ * are located by a {@link PlaceholderScanner}; rules built from a literal prefix and
+ * suffix use a plain {@code indexOf} scanner, and a regex pattern is only compiled
+ * for {@link #getPattern()} callers and rules with an empty prefix.</p>
  *
  * <p>Instances are immutable and thread-safe.</p>
  *
@@ -54,14 +56,15 @@ public class MappingRule {
 
     private final String prefix;
     private final String suffix;
-    private final Pattern pattern;
+    private final PlaceholderScanner scanner;
+    private volatile Pattern pattern;
 
     /**
      * Constructs a new PsPattern with the specified prefix and suffix.
      *
-     * <p>The pattern is compiled to efficiently match placeholders in the format:
-     * {@code prefix + content + suffix}. The content is captured as a group and
-     * cannot contain the first character of the suffix for proper termination.</p>
+     * <p>Placeholders follow the format {@code prefix + content + suffix}. The content
+     * cannot contain the first character of the suffix for proper termination. Without
+     * a suffix, the content is the longest run of {@code [A-Za-z0-9_]} characters.</p>
      *
      * @param prefix the prefix delimiter for placeholders
      * @param suffix the suffix delimiter for placeholders
@@ -70,13 +73,30 @@ public class MappingRule {
     public MappingRule(final @NonNull String prefix, final @NonNull String suffix) {
         this.prefix = prefix;
         this.suffix = suffix;
-        if (suffix.isEmpty()) {
-            this.pattern = Pattern.compile(Pattern.quote(prefix) + "([A-Za-z0-9_]+)");
-        } else {
-            this.pattern = Pattern.compile(Pattern.quote(prefix)
-                            + "([^" + Pattern.quote(suffix.substring(0, 1)) + "]+)"
-                            + Pattern.quote(suffix));
-        }
+        this.scanner = prefix.isEmpty()
+                ? PlaceholderScanner.regex(compile(prefix, suffix))
+                : PlaceholderScanner.literal(prefix, suffix);
+    }
+
+    /**
+     * Constructs a new mapping rule that locates placeholders with a custom scanner.
+     *
+     * <p>The prefix and suffix are kept for serializers and for {@link #getPattern()},
+     * but placeholder detection is left entirely to the given scanner. Use
+     * {@link PlaceholderScanner#regex(Pattern)} for syntaxes that really need a regex.</p>
+     *
+     * @param prefix the prefix delimiter for placeholders
+     * @param suffix the suffix delimiter for placeholders
+     * @param scanner the scanner used to locate placeholders
+     * @throws NullPointerException if prefix, suffix or scanner is null
+     * @since 1.3.0
+     */
+    public MappingRule(final @NonNull String prefix,
+                       final @NonNull String suffix,
+                       final @NonNull PlaceholderScanner scanner) {
+        this.prefix = prefix;
+        this.suffix = suffix;
+        this.scanner = scanner;
     }
 
     /**
@@ -97,15 +117,37 @@ public class MappingRule {
         return suffix;
     }
 
+    /**
+     * Returns the scanner used to locate placeholders of this rule.
+     *
+     * @return the placeholder scanner, never null
+     * @since 1.3.0
+     */
+    public @NonNull PlaceholderScanner getScanner() {
+        return scanner;
+    }
+
     /**
      * Returns the compiled regex pattern for this mapping rule.
      *
-     * <p>The pattern is optimized for matching placeholders that follow the
-     * prefix-content-suffix structure defined by this rule.</p>
+     * <p>The pattern matches placeholders that follow the prefix-content-suffix
+     * structure defined by this rule, with the content in group {@code 1}. It is
+     * compiled on first use and not needed for rendering, which goes through
+     * {@link #getScanner()}.</p>
      *
      * @return the compiled regex pattern, never null
      */
     public @NonNull Pattern getPattern() {
-        return pattern;
+        Pattern current = pattern;
+        if (current == null) pattern = current = compile(prefix, suffix);
+        return current;
+    }
+
+    private static @NonNull Pattern compile(final @NonNull String prefix,
+                                            final @NonNull String suffix) {
+        if (suffix.isEmpty()) return Pattern.compile(Pattern.quote(prefix) + "([A-Za-z0-9_]+)");
+        return Pattern.compile(Pattern.quote(prefix)
+                + "([^" + Pattern.quote(suffix.substring(0, 1)) + "]+)"
+                + Pattern.quote(suffix));
     }
 }
\ No newline at end of file
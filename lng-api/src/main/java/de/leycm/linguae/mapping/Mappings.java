@@ -14,7 +14,7 @@ import de.leycm.linguae.LinguaeProvider;
 
 import lombok.NonNull;
 
-import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.function.Supplier;
 
@@ -25,20 +25,35 @@ import java.util.function.Supplier;
  * corresponding values. Supports multiple mapping rules and provides a fluent
  * API for building mappings.</p>
  *
- * <p>Instances are immutable - all modification operations return new instances.</p>
+ * <p>Instances are immutable - all modification operations return new instances.
+ * Mappings are kept in an array that is copied on every {@code add}, so one instance can be
+ * rendered by many threads at once without locking, while others derive new instances
+ * from it.</p>
+ *
+ * <p>Placeholders are resolved through a hash index over the registered mappings, with
+ * one scan per distinct {@link MappingRule}. Each value supplier is evaluated at most once
+ * per {@link #apply(String)} call. A substituted value is not scanned again for its own
+ * rule, but when mappings use several rules, later scans see the output of earlier ones,
+ * so a value containing a placeholder of another rule is substituted as well.</p>
  *
- * @param mappings a List of Mapping objects to start with
  * @since 1.0.1
  * @author Lennard [leycm@proton.me]
  */
-public record Mappings(@NonNull List<Mapping> mappings,
-                       @NonNull LinguaeProvider provider) {
+public final class Mappings {
+
+    private static final Mapping[] EMPTY = new Mapping[0];
+
+    // note: never written after construction, add() copies it into a new instance
+    private final Mapping[] mappings;
+    private final LinguaeProvider provider;
+    // note: racy but safe, the index is immutable and derived from final fields only
+    private MappingIndex index;
 
     /**
      * Constructs an empty Mappings with no mappings.
      */
     public Mappings() {
-        this(new ArrayList<>());
+        this(LinguaeProvider.getInstance());
     }
 
     /**
@@ -50,7 +65,7 @@ public record Mappings(@NonNull List<Mapping> mappings,
      * @throws NullPointerException if mappings is null
      */
     public Mappings(final @NonNull LinguaeProvider provider) {
-        this(new ArrayList<>(), provider);
+        this(EMPTY, provider);
     }
 
     /**
@@ -76,7 +91,12 @@ public record Mappings(@NonNull List<Mapping> mappings,
      */
     public Mappings(final @NonNull List<Mapping> mappings,
                     final @NonNull LinguaeProvider provider) {
-        this.mappings = new ArrayList<>(mappings);
+        this(mappings.toArray(Mapping[]::new), provider);
+    }
+
+    private Mappings(final @NonNull Mapping[] mappings,
+                     final @NonNull LinguaeProvider provider) {
+        this.mappings = mappings;
         this.provider = provider;
     }
 
@@ -156,14 +176,16 @@ public record Mappings(@NonNull List<Mapping> mappings,
      * @throws NullPointerException if rule, key, or value is null
      */
     public @NonNull Mappings add(final @NonNull Mapping mapping) {
-        mappings.add(mapping);
-        return this;
+        final Mapping[] next = Arrays.copyOf(mappings, mappings.length + 1);
+        next[mappings.length] = mapping;
+        return new Mappings(next, provider);
     }
 
     /**
      * Applies all mappings to the input text, replacing placeholders with their values.
      *
-     * <p>Mappings are applied in the order they were added. If no mappings are present,
+     * <p>The text is scanned once per distinct {@link MappingRule}. When several mappings
+     * share a rule and key, the first one added wins. If no mappings are present,
      * the original text is returned unchanged.</p>
      *
      * @param text the input text containing placeholders
@@ -171,14 +193,66 @@ public record Mappings(@NonNull List<Mapping> mappings,
      * @throws NullPointerException if text is null
      */
     public @NonNull String apply(final @NonNull String text) {
-        if (mappings.isEmpty()) return text;
+        if (mappings.length == 0) return text;
+        return index().apply(text);
+    }
 
-        String result = text;
+    /**
+     * Renders a precompiled template, substituting its slots with the mapped values.
+     *
+     * <p>Slots are filled in one pass over the template pieces. Slots without a mapping
+     * keep their original placeholder text. Mappings registered with a rule other than
+     * {@link MessageTemplate#rule()} are applied to the rendered text afterwards.</p>
+     *
+     * @param template the template to render
+     * @return the rendered text with all placeholders replaced by their mapped values, never null
+     * @throws NullPointerException if template is null
+     */
+    public @NonNull String apply(final @NonNull MessageTemplate template) {
+        if (mappings.length == 0) return template.source();
+        return index().apply(template);
+    }
+
+    /**
+     * Returns mappings whose value suppliers are evaluated at most once, on their first use.
+     *
+     * <p>Use this to render the same mappings several times, e.g. for many locales, with
+     * consistent values and without calling expensive suppliers again.</p>
+     *
+     * @return a new Mappings instance caching the mapped values, never null
+     */
+    public @NonNull Mappings memoized() {
+        if (mappings.length == 0) return this;
+        final Mapping[] memoized = new Mapping[mappings.length];
+        for (int i = 0; i < mappings.length; i++) {
+            final Mapping mapping = mappings[i];
+            memoized[i] = new Mapping(mapping.rule(), mapping.key(), new Memo(mapping.value()));
+        }
+        return new Mappings(memoized, provider);
+    }
+
+    private @NonNull MappingIndex index() {
+        MappingIndex current = index;
+        if (current == null) index = current = new MappingIndex(mappings);
+        return current;
+    }
 
-        for (final Mapping mapping : mappings)
-            result = mapping.apply(result);
+    /**
+     * Returns the mappings registered in this mapper, in the order they were added.
+     *
+     * @return an unmodifiable view of the mappings, never null
+     */
+    public @NonNull List<Mapping> mappings() {
+        return List.of(mappings);
+    }
 
-        return result;
+    /**
+     * Returns the provider used to resolve default rules.
+     *
+     * @return the provider, never null
+     */
+    public @NonNull LinguaeProvider provider() {
+        return provider;
     }
 
     /**
@@ -187,7 +261,7 @@ public record Mappings(@NonNull List<Mapping> mappings,
      * @return the number of mappings, never negative
      */
     public int size() {
-        return mappings.size();
+        return mappings.length;
     }
 
     /**
@@ -196,6 +270,44 @@ public record Mappings(@NonNull List<Mapping> mappings,
      * @return true if there are no mappings, false otherwise
      */
     public boolean isEmpty() {
-        return mappings.isEmpty();
+        return mappings.length == 0;
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        if (this == obj) return true;
+        if (!(obj instanceof Mappings that)) return false;
+        return Arrays.equals(mappings, that.mappings) && provider.equals(that.provider);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Arrays.hashCode(mappings) + provider.hashCode();
+    }
+
+    @Override
+    public @NonNull String toString() {
+        return "Mappings[mappings=" + Arrays.toString(mappings) + ", provider=" + provider + "]";
+    }
+
+    /**
+     * Supplier evaluating its delegate once and returning the same value afterwards.
+     */
+    private static final class Memo implements Supplier<String> {
+        private Supplier<String> delegate;
+        private String value;
+
+        private Memo(final @NonNull Supplier<String> delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public synchronized String get() {
+            if (delegate != null) {
+                value = delegate.get();
+                delegate = null;
+            }
+            return value;
+        }
     }
-}
\ No newline at end of file
+}
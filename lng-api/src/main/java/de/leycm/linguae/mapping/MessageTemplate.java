@@ -0,0 +1,168 @@
+/**
+ * LECP-LICENSE NOTICE
+ * <br><br>
+ * This Sourcecode is under the LECP-LICENSE. <br>
+ * License at: <a href="https://github.com/leycm/leycm/blob/main/LICENSE">GITHUB</a>
+ * <br><br>
+ * Copyright (c) LeyCM <a href="mailto:leycm@proton.me">leycm@proton.me</a> l <br>
+ * Copyright (c) maintainers <br>
+ * Copyright (c) contributors
+ */
+package de.leycm.linguae.mapping;
+
+import lombok.NonNull;
+import org.jetbrains.annotations.Contract;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * A translation string parsed once into literal pieces and placeholder slots.
+ *
+ * <p>A template with {@code n} placeholders holds {@code n + 1} literal pieces and
+ * {@code n} slots. Rendering appends the pieces and slot values in order, so the
+ * source text is never scanned again after {@link #compile(String, MappingRule)}.</p>
+ *
+ * <p>Instances are immutable and thread-safe.</p>
+ *
+ * @see Mappings#apply(MessageTemplate)
+ * @since 1.3.0
+ * @author Lennard [leycm@proton.me]
+ */
+public final class MessageTemplate {
+
+    private static final String[] NO_KEYS = new String[0];
+    private static final int[] NO_OFFSETS = new int[0];
+
+    private final MappingRule rule;
+    private final String source;
+    private final String[] literals;
+    private final String[] keys;
+    private final int[] offsets;
+
+    private MessageTemplate(final @NonNull MappingRule rule,
+                            final @NonNull String source,
+                            final String[] literals,
+                            final String[] keys,
+                            final int[] offsets) {
+        this.rule = rule;
+        this.source = source;
+        this.literals = literals;
+        this.keys = keys;
+        this.offsets = offsets;
+    }
+
+    /**
+     * Parses the given text into a template using the placeholder syntax of the given rule.
+     *
+     * @param text the text to parse
+     * @param rule the rule used to detect placeholders
+     * @return the parsed template, never null
+     * @throws NullPointerException if text or rule is null
+     */
+    @Contract("_, _ -> new")
+    public static @NonNull MessageTemplate compile(final @NonNull String text,
+                                                   final @NonNull MappingRule rule) {
+        final PlaceholderScanner scanner = rule.getScanner();
+        final int[] bounds = new int[4];
+        if (!scanner.find(text, 0, bounds))
+            return new MessageTemplate(rule, text, new String[]{text}, NO_KEYS, NO_OFFSETS);
+
+        final List<String> literals = new ArrayList<>();
+        final List<String> keys = new ArrayList<>();
+        int[] offsets = new int[8];
+        int count = 0;
+
+        int lastEnd = 0;
+        do {
+            literals.add(text.substring(lastEnd, bounds[PlaceholderScanner.START]));
+            keys.add(text.substring(bounds[PlaceholderScanner.KEY_START], bounds[PlaceholderScanner.KEY_END]));
+            if (count + 2 > offsets.length) offsets = Arrays.copyOf(offsets, offsets.length << 1);
+            offsets[count++] = bounds[PlaceholderScanner.START];
+            offsets[count++] = bounds[PlaceholderScanner.END];
+            lastEnd = bounds[PlaceholderScanner.END];
+        } while (scanner.find(text, lastEnd, bounds));
+        literals.add(text.substring(lastEnd));
+
+        return new MessageTemplate(rule, text,
+                literals.toArray(String[]::new), keys.toArray(String[]::new), Arrays.copyOf(offsets, count));
+    }
+
+    /**
+     * Returns the rule this template was parsed with.
+     *
+     * @return the mapping rule, never null
+     */
+    public @NonNull MappingRule rule() {
+        return rule;
+    }
+
+    /**
+     * Returns the unparsed text this template was created from.
+     *
+     * @return the source text, never null
+     */
+    public @NonNull String source() {
+        return source;
+    }
+
+    /**
+     * Returns the number of placeholder slots in this template.
+     *
+     * @return the slot count, never negative
+     */
+    public int size() {
+        return keys.length;
+    }
+
+    /**
+     * Returns the literal piece preceding slot {@code index}, or the trailing
+     * piece when {@code index} equals {@link #size()}.
+     *
+     * @param index the piece index, from {@code 0} to {@link #size()} inclusive
+     * @return the literal piece, never null
+     * @throws IndexOutOfBoundsException if index is out of range
+     */
+    public @NonNull String literal(final int index) {
+        return literals[index];
+    }
+
+    /**
+     * Returns the placeholder key of slot {@code index}.
+     *
+     * @param index the slot index
+     * @return the placeholder key, never null
+     * @throws IndexOutOfBoundsException if index is out of range
+     */
+    public @NonNull String key(final int index) {
+        return keys[index];
+    }
+
+    /**
+     * Returns the offset in {@link #source()} where slot {@code index} starts.
+     *
+     * @param index the slot index
+     * @return the inclusive start offset of the placeholder
+     * @throws IndexOutOfBoundsException if index is out of range
+     */
+    public int start(final int index) {
+        return offsets[index << 1];
+    }
+
+    /**
+     * Returns the offset in {@link #source()} where slot {@code index} ends.
+     *
+     * @param index the slot index
+     * @return the exclusive end offset of the placeholder
+     * @throws IndexOutOfBoundsException if index is out of range
+     */
+    public int end(final int index) {
+        return offsets[(index << 1) + 1];
+    }
+
+    @Override
+    public @NonNull String toString() {
+        return "MessageTemplate[" + source + "]";
+    }
+}
@@ -0,0 +1,100 @@
+/**
+ * LECP-LICENSE NOTICE
+ * <br><br>
+ * This Sourcecode is under the LECP-LICENSE. <br>
+ * License at: <a href="https://github.com/leycm/leycm/blob/main/LICENSE">GITHUB</a>
+ * <br><br>
+ * Copyright (c) LeyCM <a href="mailto:leycm@proton.me">leycm@proton.me</a> l <br>
+ * Copyright (c) maintainers <br>
+ * Copyright (c) contributors
+ */
+package de.leycm.linguae.mapping;
+
+import lombok.NonNull;
+import org.jetbrains.annotations.Contract;
+
+import java.util.regex.Pattern;
+
+/**
+ * Locates placeholders in a text for a {@link MappingRule}.
+ *
+ * <p>A scanner reports each placeholder through a caller-provided bounds array,
+ * so scanning a text allocates nothing per placeholder:</p>
+ * <ul>
+ *   <li>{@code bounds[START]} – offset of the first prefix character</li>
+ *   <li>{@code bounds[KEY_START]} – offset of the first key character</li>
+ *   <li>{@code bounds[KEY_END]} – offset after the last key character</li>
+ *   <li>{@code bounds[END]} – offset after the last suffix character</li>
+ * </ul>
+ *
+ * <p>Implementations must be stateless or thread-safe.</p>
+ *
+ * @see MappingRule#getScanner()
+ * @since 1.3.0
+ * @author Lennard [leycm@proton.me]
+ */
+@FunctionalInterface
+public interface PlaceholderScanner {
+
+    /** Index of the placeholder start offset in a bounds array. */
+    int START = 0;
+
+    /** Index of the key start offset in a bounds array. */
+    int KEY_START = 1;
+
+    /** Index of the key end offset in a bounds array. */
+    int KEY_END = 2;
+
+    /** Index of the placeholder end offset in a bounds array. */
+    int END = 3;
+
+    /**
+     * Finds the first placeholder in {@code text} that starts at or after {@code from}.
+     *
+     * @param text the text to scan
+     * @param from the offset to start scanning at
+     * @param bounds an array of at least four elements receiving the placeholder bounds
+     * @return {@code true} if a placeholder was found and written to {@code bounds}
+     * @throws NullPointerException if text or bounds is null
+     */
+    boolean find(@NonNull String text, int from, int @NonNull [] bounds);
+
+    /**
+     * Creates a scanner for placeholders made of a literal prefix and suffix.
+     *
+     * <p>Matches the same placeholders as the pattern built by
+     * {@link MappingRule#MappingRule(String, String)}, using plain {@link String#indexOf}
+     * searches instead of a regular expression.</p>
+     *
+     * @param prefix the prefix delimiter
+     * @param suffix the suffix delimiter, or an empty string for identifier-terminated keys
+     * @return the scanner, never null
+     * @throws NullPointerException if prefix or suffix is null
+     * @throws IllegalArgumentException if prefix is empty
+     */
+    @Contract("_, _ -> new")
+    static @NonNull PlaceholderScanner literal(final @NonNull String prefix,
+                                               final @NonNull String suffix) {
+        if (prefix.isEmpty()) throw new IllegalArgumentException("Placeholder prefix must not be empty");
+        return new LiteralPlaceholderScanner(prefix, suffix);
+    }
+
+    /**
+     * Creates a scanner backed by a regular expression.
+     *
+     * <p>The whole match is treated as the placeholder and capturing group {@code 1}
+     * as its key. Use this only for syntaxes that cannot be expressed as a literal
+     * prefix and suffix.</p>
+     *
+     * @param pattern the pattern with the key in group {@code 1}
+     * @return the scanner, never null
+     * @throws NullPointerException if pattern is null
+     * @throws IllegalArgumentException if the pattern has no capturing group
+     */
+    @Contract("_ -> new")
+    static @NonNull PlaceholderScanner regex(final @NonNull Pattern pattern) {
+        if (pattern.matcher("").groupCount() < 1)
+            throw new IllegalArgumentException("Placeholder pattern needs a capturing group: " + pattern);
+        return new RegexPlaceholderScanner(pattern);
+    }
+}
@@ -0,0 +1,53 @@
+/**
+ * LECP-LICENSE NOTICE
+ * <br><br>
+ * This Sourcecode is under the LECP-LICENSE. <br>
+ * License at: <a href="https://github.com/leycm/leycm/blob/main/LICENSE">GITHUB</a>
+ * <br><br>
+ * Copyright (c) LeyCM <a href="mailto:leycm@proton.me">leycm@proton.me</a> l <br>
+ * Copyright (c) maintainers <br>
+ * Copyright (c) contributors
+ */
+package de.leycm.linguae.mapping;
+
+import lombok.NonNull;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * {@link PlaceholderScanner} backed by a regular expression.
+ *
+ * <p>Keeps one {@link Matcher} per thread and resets it for every search,
+ * so repeated scans do not allocate a new matcher per placeholder.</p>
+ *
+ * @since 1.3.0
+ * @author Lennard [leycm@proton.me]
+ */
+final class RegexPlaceholderScanner implements PlaceholderScanner {
+
+    private final Pattern pattern;
+    private final ThreadLocal<Matcher> matcher;
+
+    RegexPlaceholderScanner(final @NonNull Pattern pattern) {
+        this.pattern = pattern;
+        this.matcher = ThreadLocal.withInitial(() -> pattern.matcher(""));
+    }
+
+    @Override
+    public boolean find(final @NonNull String text, final int from, final int @NonNull [] bounds) {
+        final Matcher current = matcher.get().reset(text);
+        if (!current.find(from)) return false;
+
+        bounds[START] = current.start();
+        bounds[KEY_START] = current.start(1);
+        bounds[KEY_END] = current.end(1);
+        bounds[END] = current.end();
+        return true;
+    }
+
+    @Override
+    public @NonNull String toString() {
+        return "RegexPlaceholderScanner[" + pattern + "]";
+    }
+}
@@ -12,9 +12,15 @@ package de.leycm.linguae.source;
 
 import lombok.NonNull;
 
+import java.io.Closeable;
+import java.io.IOException;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
 
 /**
  * Represents a source of translations for different languages.
@@ -76,6 +82,58 @@ public interface LinguaeSource {
      */
     @NonNull Map<String, String> loadLanguage(@NonNull Locale locale) throws Exception;
 
+    /**
+     * Loads all translations for the given language without blocking the calling thread.
+     *
+     * <p>
+     * The default implementation runs {@link #loadLanguage(Locale)} on the given executor.
+     * Sources backed by non-blocking I/O (e.g. asynchronous HTTP clients or file channels)
+     * should override this method and only use the executor for CPU-bound work such as parsing.
+     * </p>
+     *
+     * @param locale the {@link Locale} to load translations for, must not be {@code null}
+     * @param executor the executor to run blocking or CPU-bound work on, must not be {@code null}
+     * @return a future of the map of translation keys to localized strings, completing
+     *         exceptionally if loading fails
+     * @since 1.3.0
+     */
+    default @NonNull CompletableFuture<Map<String, String>> loadLanguageAsync(final @NonNull Locale locale,
+                                                                            final @NonNull Executor executor) {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return loadLanguage(locale);
+            } catch (RuntimeException e) {
+                throw e;
+            } catch (Exception e) {
+                throw new CompletionException(e);
+            }
+        }, executor);
+    }
+
+    /**
+     * Streams all translations for the given language into a sink without blocking the calling thread.
+     *
+     * <p>
+     * The default implementation copies the result of {@link #loadLanguageAsync(Locale, Executor)}
+     * into the sink. Sources reading large files should override this method and pass entries
+     * to the sink while parsing, so no intermediate map is built.
+     * </p>
+     *
+     * @param locale the {@link Locale} to load translations for, must not be {@code null}
+     * @param executor the executor to run blocking or CPU-bound work on, must not be {@code null}
+     * @param sink the sink receiving the translations, must not be {@code null}
+     * @return a future completing once every translation was passed to the sink,
+     *         or exceptionally if loading fails
+     * @since 1.3.0
+     */
+    default @NonNull CompletableFuture<Void> loadLanguageAsync(final @NonNull Locale locale,
+                                                               final @NonNull Executor executor,
+                                                               final @NonNull TranslationSink sink) {
+        return loadLanguageAsync(locale, executor).thenAccept(translations -> {
+            sink.expect(translations.size());
+            translations.forEach(sink::accept);
+        });
+    }
 
     /**
      * Checks whether the given language is supported by this translation source.
@@ -91,4 +149,23 @@ public interface LinguaeSource {
      */
     boolean supportsLanguage(@NonNull Locale locale);
 
+    /**
+     * Starts reporting languages whose translations changed in this source.
+     *
+     * <p>
+     * The listener is called with the changed {@link Locale}, possibly some time after the
+     * change so that bursts of writes are reported once. Calls come from a single background
+     * thread. The default implementation never reports anything, for sources that cannot
+     * detect changes.
+     * </p>
+     *
+     * @param listener the listener to notify about changed languages, must not be {@code null}
+     * @return a handle that stops watching once closed, never {@code null}
+     * @throws IOException if watching cannot be started
+     * @since 1.3.0
+     */
+    default @NonNull Closeable watch(final @NonNull Consumer<Locale> listener) throws IOException {
+        return () -> {};
+    }
+
 }
@@ -0,0 +1,69 @@
+/**
+ * LECP-LICENSE NOTICE
+ * <br><br>
+ * This Sourcecode is under the LECP-LICENSE. <br>
+ * License at: <a href="https://github.com/leycm/leycm/blob/main/LICENSE">GITHUB</a>
+ * <br><br>
+ * Copyright (c) LeyCM <a href="mailto:leycm@proton.me">leycm@proton.me</a> l <br>
+ * Copyright (c) maintainers <br>
+ * Copyright (c) contributors
+ */
+package de.leycm.linguae.source;
+
+import lombok.NonNull;
+
+import java.util.Map;
+
+/**
+ * Receives the translations of one locale while a {@link LinguaeSource} reads them.
+ *
+ * <p>Streaming entries into a sink lets the consumer build its own structure directly,
+ * instead of the source materializing an intermediate map that is copied afterwards.</p>
+ *
+ * <p>A sink is used by a single load at a time and does not need to be thread-safe.</p>
+ *
+ * @see LinguaeSource#loadLanguageAsync(java.util.Locale, java.util.concurrent.Executor, TranslationSink)
+ * @since 1.3.0
+ * @author Lennard [leycm@proton.me]
+ */
+@FunctionalInterface
+public interface TranslationSink {
+
+    /**
+     * Announces roughly how many entries will follow, so the sink can pre-size its storage.
+     *
+     * <p>Sources call this at most once, before the first {@link #accept(String, String)}.<br>
+     * The hint is an estimate and may be lower or higher than the real count.</p>
+     *
+     * @param size the expected number of entries
+     */
+    default void expect(final int size) {
+    }
+
+    /**
+     * Receives one translation.
+     *
+     * @param key the translation key
+     * @param value the localized string
+     * @throws NullPointerException if key or value is null
+     */
+    void accept(@NonNull String key, @NonNull String value);
+
+    /**
+     * Receives every translation of the locale at once.
+     *
+     * <p>Sources whose translations already exist as a read-only map, e.g. a view of a<br>
+     * memory-mapped file, pass it here instead of feeding entries one by one. The map must<br>
+     * never change afterwards, so sinks may keep it instead of copying it.</p>
+     *
+     * <p>The default implementation passes every entry to {@link #accept(String, String)}.</p>
+     *
+     * @param translations the translations of the locale
+     * @throws NullPointerException if translations is null
+     */
+    default void acceptAll(final @NonNull Map<String, String> translations) {
+        expect(translations.size());
+        translations.forEach(this::accept);
+    }
+
+}
@@ -0,0 +1,91 @@
+/**
+ * LECP-LICENSE NOTICE
+ * <br><br>
+ * This Sourcecode is under the LECP-LICENSE. <br>
+ * License at: <a href="https://github.com/leycm/leycm/blob/main/LICENSE">GITHUB</a>
+ * <br><br>
+ * Copyright (c) LeyCM <a href="mailto:leycm@proton.me">leycm@proton.me</a> l <br>
+ * Copyright (c) maintainers <br>
+ * Copyright (c) contributors
+ */
+package de.leycm.linguae.mapping;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Checks {@link LiteralPlaceholderScanner} against the pattern of {@link MappingRule#getPattern()},
+ * which it replaces.
+ */
+class PlaceholderScannerTest {
+
+    private static final List<MappingRule> RULES = List.of(
+            MappingRule.DOLLAR, MappingRule.PERCENT, MappingRule.FSTRING, MappingRule.CURLY,
+            MappingRule.MINI_MESSAGE, new MappingRule("[", "]]"), new MappingRule("%%", "%"),
+            new MappingRule("ab", "ab"), new MappingRule("", "}"));
+
+    private static final String[] ATOMS = {
+            "$", "{", "}", "%", "<", "var:", ">", "[", "]", "a", "b", "Z", "_", "0", " ", "-", "ä", "\n", "}}"
+    };
+
+    @Test
+    void percentSigns() {
+        assertScannedLikeRegex(MappingRule.PERCENT, "100% of %x% and %x%");
+        assertScannedLikeRegex(MappingRule.FSTRING, "100% of %x and %_y2-z%");
+    }
+
+    @Test
+    void multiCharacterDelimiters() {
+        assertScannedLikeRegex(MappingRule.CURLY, "{{a}} {{b} c}} {{{d}}} {{}}");
+        assertScannedLikeRegex(MappingRule.MINI_MESSAGE, "<var:a> <var:<var:b>> <var:>");
+        assertScannedLikeRegex(new MappingRule("[", "]]"), "[a] [b]] [[c]]]");
+    }
+
+    @Test
+    void unterminatedPlaceholders() {
+        assertScannedLikeRegex(MappingRule.DOLLAR, "${a ${b} ${");
+        assertScannedLikeRegex(MappingRule.PERCENT, "%a");
+    }
+
+    @Test
+    void emptyPrefixFallsBackToRegex() {
+        final MappingRule rule = new MappingRule("", "}");
+        assertInstanceOf(RegexPlaceholderScanner.class, rule.getScanner());
+        assertScannedLikeRegex(rule, "a} {b}} }");
+        assertThrows(IllegalArgumentException.class, () -> PlaceholderScanner.literal("", "}"));
+    }
+
+    @Test
+    void matchesRegexOnRandomInput() {
+        final Random random = new Random(11);
+        for (int i = 0; i < 20_000; i++) {
+            final StringBuilder text = new StringBuilder();
+            final int length = random.nextInt(20);
+            for (int j = 0; j < length; j++) text.append(ATOMS[random.nextInt(ATOMS.length)]);
+
+            for (final MappingRule rule : RULES) assertScannedLikeRegex(rule, text.toString());
+        }
+    }
+
+    private static void assertScannedLikeRegex(final MappingRule rule, final String text) {
+        final PlaceholderScanner regex = PlaceholderScanner.regex(rule.getPattern());
+        final int[] expected = new int[4];
+        final int[] actual = new int[4];
+
+        for (int from = 0; from <= text.length(); from++) {
+            final boolean found = regex.find(text, from, expected);
+            final int offset = from;
+            assertEquals(found, rule.getScanner().find(text, from, actual),
+                    () -> rule.getPattern() + " at " + offset + " in: " + text);
+            if (found) assertEquals(List.of(expected[0], expected[1], expected[2], expected[3]),
+                    List.of(actual[0], actual[1], actual[2], actual[3]),
+                    () -> rule.getPattern() + " at " + offset + " in: " + text);
+        }
+    }
+}
@@ -5,8 +5,17 @@ dependencies {
 
     compileOnly(libs.bundles.adventure)
     implementation(project(":api"))
+
+    testImplementation(platform("org.junit:junit-bom:5.11.4"))
+    testImplementation("org.junit.jupiter:junit-jupiter")
+    testImplementation(libs.slf4j)
+    testRuntimeOnly("org.junit.platform:junit-platform-launcher")
 }
 
 tasks.named("sourcesJar") {
     mustRunAfter(":api:jar")
 }
+
+tasks.named<Test>("test") {
+    useJUnitPlatform()
+}
@@ -0,0 +1,187 @@
+/**
+ * LECP-LICENSE NOTICE
+ * <br><br>
+ * This Sourcecode is under the LECP-LICENSE. <br>
+ * License at: <a href="https://github.com/leycm/leycm/blob/main/LICENSE">GITHUB</a>
+ * <br><br>
+ * Copyright (c) LeyCM <a href="mailto:leycm@proton.me">leycm@proton.me</a> l <br>
+ * Copyright (c) maintainers <br>
+ * Copyright (c) contributors
+ */
+package de.leycm.linguae;
+
+import lombok.NonNull;
+import org.jetbrains.annotations.Contract;
+
+import java.time.Duration;
+
+/**
+ * Limits how many loaded locales a {@link CommonLinguaeProvider} keeps in memory.
+ *
+ * <p>When a limit is exceeded, the least recently used locale is evicted. Expired
+ * or evicted locales are reloaded transparently from the
+ * {@link de.leycm.linguae.source.LinguaeSource} on their next use.</p>
+ *
+ * <p>The weight of a locale is an estimate of its heap usage in bytes, derived
+ * from the length of its keys and values.</p>
+ *
+ * <p>A locale that failed to load is not loaded again until its retry delay passed,
+ * so an unreachable source is not queried on every translation request. Requests
+ * within the delay fail with the original error. Reloading or clearing the locale
+ * retries it immediately.</p>
+ *
+ * <p>Instances are immutable and thread-safe.</p>
+ *
+ * @see CommonLinguaeProvider.Builder#cachePolicy(CachePolicy)
+ * @since 1.3.0
+ * @author Lennard [leycm@proton.me]
+ */
+public final class CachePolicy {
+
+    private static final CachePolicy UNBOUNDED = new CachePolicy(builder());
+
+    private final int maximumLocales;
+    private final long maximumWeight;
+    private final long expireAfterAccessNanos;
+    private final long expireAfterWriteNanos;
+    private final long retryAfterFailureNanos;
+
+    private CachePolicy(final @NonNull Builder builder) {
+        this.maximumLocales = builder.maximumLocales;
+        this.maximumWeight = builder.maximumWeight;
+        this.expireAfterAccessNanos = builder.expireAfterAccess.toNanos();
+        this.expireAfterWriteNanos = builder.expireAfterWrite.toNanos();
+        this.retryAfterFailureNanos = builder.retryAfterFailure.toNanos();
+    }
+
+    /**
+     * Returns a policy that keeps every loaded locale until the cache is cleared.
+     *
+     * @return the unbounded policy, never null
+     */
+    @Contract(pure = true)
+    public static @NonNull CachePolicy unbounded() {
+        return UNBOUNDED;
+    }
+
+    @Contract(value = " -> new", pure = true)
+    public static @NonNull Builder builder() {
+        return new Builder();
+    }
+
+    public static class Builder {
+        private int maximumLocales = Integer.MAX_VALUE;
+        private long maximumWeight = Long.MAX_VALUE;
+        private Duration expireAfterAccess = Duration.ZERO;
+        private Duration expireAfterWrite = Duration.ZERO;
+        private Duration retryAfterFailure = Duration.ofSeconds(10);
+
+        private Builder() {
+        }
+
+        public Builder maximumLocales(final int maximumLocales) {
+            if (maximumLocales < 1) throw new IllegalArgumentException("maximumLocales must be positive");
+            this.maximumLocales = maximumLocales;
+            return this;
+        }
+
+        public Builder maximumWeight(final long maximumBytes) {
+            if (maximumBytes < 1) throw new IllegalArgumentException("maximumWeight must be positive");
+            this.maximumWeight = maximumBytes;
+            return this;
+        }
+
+        public Builder expireAfterAccess(final @NonNull Duration duration) {
+            if (duration.isNegative()) throw new IllegalArgumentException("expireAfterAccess must not be negative");
+            this.expireAfterAccess = duration;
+            return this;
+        }
+
+        public Builder expireAfterWrite(final @NonNull Duration duration) {
+            if (duration.isNegative()) throw new IllegalArgumentException("expireAfterWrite must not be negative");
+            this.expireAfterWrite = duration;
+            return this;
+        }
+
+        /**
+         * Sets how long a failed load is kept before the locale is loaded again (default 10 seconds).
+         *
+         * <p>A duration of {@link Duration#ZERO} retries on the next request.</p>
+         */
+        public Builder retryAfterFailure(final @NonNull Duration duration) {
+            if (duration.isNegative()) throw new IllegalArgumentException("retryAfterFailure must not be negative");
+            this.retryAfterFailure = duration;
+            return this;
+        }
+
+        public CachePolicy build() {
+            return new CachePolicy(this);
+        }
+    }
+
+    /**
+     * Returns the maximum number of locales kept loaded.
+     *
+     * @return the locale limit, {@link Integer#MAX_VALUE} if unlimited
+     */
+    public int getMaximumLocales() {
+        return maximumLocales;
+    }
+
+    /**
+     * Returns the maximum estimated weight in bytes of all loaded locales.
+     *
+     * @return the weight limit, {@link Long#MAX_VALUE} if unlimited
+     */
+    public long getMaximumWeight() {
+        return maximumWeight;
+    }
+
+    /**
+     * Returns how long a locale stays loaded after its last use.
+     *
+     * @return the idle expiry, {@link Duration#ZERO} if disabled
+     */
+    public @NonNull Duration getExpireAfterAccess() {
+        return Duration.ofNanos(expireAfterAccessNanos);
+    }
+
+    /**
+     * Returns how long a locale stays loaded after it was loaded.
+     *
+     * @return the load expiry, {@link Duration#ZERO} if disabled
+     */
+    public @NonNull Duration getExpireAfterWrite() {
+        return Duration.ofNanos(expireAfterWriteNanos);
+    }
+
+    /**
+     * Returns how long a failed load is kept before the locale is loaded again.
+     *
+     * @return the retry delay, {@link Duration#ZERO} if failures are retried immediately
+     */
+    public @NonNull Duration getRetryAfterFailure() {
+        return Duration.ofNanos(retryAfterFailureNanos);
+    }
+
+    boolean isBounded() {
+        return maximumLocales != Integer.MAX_VALUE || maximumWeight != Long.MAX_VALUE;
+    }
+
+    boolean expires() {
+        return expireAfterAccessNanos != 0 || expireAfterWriteNanos != 0;
+    }
+
+    boolean isExpired(final long loadedAt, final long accessedAt, final long now) {
+        return (expireAfterWriteNanos != 0 && now - loadedAt >= expireAfterWriteNanos)
+                || (expireAfterAccessNanos != 0 && now - accessedAt >= expireAfterAccessNanos);
+    }
+
+    boolean keepsFailures() {
+        return retryAfterFailureNanos != 0;
+    }
+
+    boolean isRetryDue(final long failedAt, final long now) {
+        return now - failedAt >= retryAfterFailureNanos;
+    }
+}
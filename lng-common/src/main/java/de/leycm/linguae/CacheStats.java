@@ -0,0 +1,45 @@
+/**
+ * LECP-LICENSE NOTICE
+ * <br><br>
+ * This Sourcecode is under the LECP-LICENSE. <br>
+ * License at: <a href="https://github.com/leycm/leycm/blob/main/LICENSE">GITHUB</a>
+ * <br><br>
+ * Copyright (c) LeyCM <a href="mailto:leycm@proton.me">leycm@proton.me</a> l <br>
+ * Copyright (c) maintainers <br>
+ * Copyright (c) contributors
+ */
+package de.leycm.linguae;
+
+/**
+ * Snapshot of the locale cache counters of a {@link CommonLinguaeProvider}.
+ *
+ * @param hitCount lookups that found their locale loaded, not counting renders
+ *                 served by a bound translation of {@link CommonLinguaeProvider#bind}
+ * @param missCount lookups that started loading their locale, lookups waiting for
+ *                  a load that is already running are not counted
+ * @param loadCount locales loaded from the source
+ * @param evictionCount locales dropped because of size limits or expiry
+ * @param localeCount locales currently loaded
+ * @param weight estimated heap usage in bytes of all loaded locales
+ *
+ * @see CommonLinguaeProvider#getCacheStats()
+ * @since 1.3.0
+ * @author Lennard [leycm@proton.me]
+ */
+public record CacheStats(long hitCount,
+                         long missCount,
+                         long loadCount,
+                         long evictionCount,
+                         int localeCount,
+                         long weight) {
+
+    /**
+     * Returns the ratio of lookups that found their locale loaded.
+     *
+     * @return the hit rate between {@code 0.0} and {@code 1.0}, {@code 1.0} if there were no lookups
+     */
+    public double hitRate() {
+        final long requests = hitCount + missCount;
+        return requests == 0 ? 1.0 : (double) hitCount / requests;
+    }
+}
@@ -15,17 +15,33 @@ import de.leycm.linguae.exeption.IncompatibleMatchException;
 import de.leycm.linguae.label.LiteralLabel;
 import de.leycm.linguae.label.LocaleLabel;
 import de.leycm.linguae.mapping.MappingRule;
+import de.leycm.linguae.mapping.MessageTemplate;
 import de.leycm.linguae.serialize.LabelSerializer;
 import de.leycm.linguae.source.LinguaeSource;
+import de.leycm.linguae.source.TranslationSink;
 import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
 import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.Nullable;
 
+import java.io.Closeable;
+import java.io.IOException;
 import java.text.ParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Function;
 
 @Slf4j
@@ -40,11 +56,19 @@ public class CommonLinguaeProvider implements LinguaeProvider {
         private final Map<Class<?>, LabelSerializer<?>> serializerRegistry;
         private MappingRule mappingRule;
         private Locale locale;
+        private FallbackPolicy fallbackPolicy;
+        private CachePolicy cachePolicy;
+        private Executor executor;
+        private int missingKeyLimit;
 
         private Builder() {
             this.serializerRegistry = new ConcurrentHashMap<>();
             this.mappingRule = MappingRule.FSTRING;
             this.locale = Locale.US; // may use Locale.getDefault()
+            this.fallbackPolicy = FallbackPolicy.regionToLanguage();
+            this.cachePolicy = CachePolicy.unbounded();
+            this.executor = ForkJoinPool.commonPool();
+            this.missingKeyLimit = 4096;
         }
 
         public Builder withSerializer(final @NonNull Class<?> type,
@@ -63,26 +87,77 @@ public class CommonLinguaeProvider implements LinguaeProvider {
             return this;
         }
 
+        public Builder fallbackPolicy(final @NonNull FallbackPolicy fallbackPolicy) {
+            this.fallbackPolicy = fallbackPolicy;
+            return this;
+        }
+
+        public Builder cachePolicy(final @NonNull CachePolicy cachePolicy) {
+            this.cachePolicy = cachePolicy;
+            return this;
+        }
+
+        /**
+         * Sets the executor used to load locales in the background (default: the common pool).
+         *
+         * <p>Loading is I/O bound, so a dedicated pool is recommended for remote sources.</p>
+         */
+        public Builder executor(final @NonNull Executor executor) {
+            this.executor = executor;
+            return this;
+        }
+
+        /**
+         * Sets how many missing keys are remembered per locale (default {@code 4096}).
+         *
+         * <p>Remembered keys are only logged once, and locales layered over read-only
+         * views return them without probing each layer again.
+         * A limit of {@code 0} disables the negative cache.</p>
+         */
+        public Builder missingKeyLimit(final int missingKeyLimit) {
+            if (missingKeyLimit < 0) throw new IllegalArgumentException("missingKeyLimit must not be negative");
+            this.missingKeyLimit = missingKeyLimit;
+            return this;
+        }
+
         public CommonLinguaeProvider build(final @NonNull LinguaeSource source) {
-            return new CommonLinguaeProvider(serializerRegistry, mappingRule, source, locale);
+            return new CommonLinguaeProvider(serializerRegistry, mappingRule, source, locale,
+                    fallbackPolicy, cachePolicy, executor, missingKeyLimit);
         }
     }
 
-    private final Map<String, Map<String, String>> translationCache = new ConcurrentHashMap<>();
+    private final TranslationCache translationCache;
+    private final Map<Locale, List<Locale>> chainCache = new ConcurrentHashMap<>();
+    private final Map<Locale, Map<MappingRule, Map<String, MessageTemplate>>> templateCache = new ConcurrentHashMap<>();
     private final Map<Class<?>, LabelSerializer<?>> serializerRegistry = new ConcurrentHashMap<>();
+    private final KeyDictionary keys = new KeyDictionary();
+    private final MissingKeyCache missingKeys;
+    private final FallbackPolicy fallbackPolicy;
     private final MappingRule mappingRule;
     private final LinguaeSource source;
+    private final Executor executor;
     private final Locale locale;
+    // note: the translations of each chain member as the source returned them, shared by every view built on them
+    private final Map<Locale, CompletableFuture<Map<String, String>>> layers = new ConcurrentHashMap<>();
+    private boolean watching;
 
 
     private CommonLinguaeProvider(
             final @NonNull Map<Class<?>, LabelSerializer<?>> serializers,
             final @NonNull MappingRule mappingRule,
             final @NonNull LinguaeSource source,
-            final @NonNull Locale locale) {
+            final @NonNull Locale locale,
+            final @NonNull FallbackPolicy fallbackPolicy,
+            final @NonNull CachePolicy cachePolicy,
+            final @NonNull Executor executor,
+            final int missingKeyLimit) {
+        this.missingKeys = new MissingKeyCache(missingKeyLimit);
+        this.translationCache = new TranslationCache(cachePolicy, this::removed);
+        this.fallbackPolicy = fallbackPolicy;
         this.mappingRule = mappingRule;
         this.serializerRegistry.putAll(serializers);
         this.source = source;
+        this.executor = executor;
         this.locale = locale;
     }
 
@@ -115,52 +190,250 @@ public class CommonLinguaeProvider implements LinguaeProvider {
     public @NonNull String translate(final @NonNull String key,
                                      final @NonNull Function<Locale, String> fallback,
                                      final @NonNull Locale locale) {
+        final String value = lookup(key, locale);
+        return value != null ? value : fallback.apply(locale);
+    }
+
+    @Override
+    public @NonNull MessageTemplate template(final @NonNull String key,
+                                             final @NonNull Function<Locale, String> fallback,
+                                             final @NonNull Locale locale,
+                                             final @NonNull MappingRule rule) {
+        translations(locale); // note: keeps the locale loaded and marks it as used for eviction
+        final Map<String, MessageTemplate> templates = templates(locale, rule);
+
+        final MessageTemplate template = templates.get(key);
+        if (template != null) return template;
+
+        final String value = lookup(key, locale);
+        // note: fallbacks differ per label, so only real translations are cached
+        if (value == null) return MessageTemplate.compile(fallback.apply(locale), rule);
+
+        final MessageTemplate compiled = MessageTemplate.compile(value, rule);
+        final MessageTemplate previous = templates.putIfAbsent(key, compiled);
+        return previous != null ? previous : compiled;
+    }
 
-        final AtomicReference<RuntimeException> exception = new AtomicReference<>();
-        final String localeTag = locale.toLanguageTag();
-        final Locale defaultLocale = getLocale();
-        final String defaultTag = defaultLocale.toLanguageTag();
+    /**
+     * Binds a key to this provider through a {@link TranslationHandle}.
+     *
+     * <p>The handle remembers the id of its key, so rendering it reads the value straight
+     * from the array of the requested locale, without hashing the key or allocating.
+     * Nothing locale specific is remembered, so a handle rendered for many locales is as
+     * fast as one rendered for a single locale. Caches that track access for eviction
+     * always take the regular path. Renders served by the handle are not counted as
+     * cache hits.</p>
+     *
+     * @param key the translation key
+     * @param fallback the fallback used when no translation exists
+     * @return the handle of the key
+     * @since 1.3.0
+     */
+    @Override
+    public @NonNull BoundTranslation bind(final @NonNull String key,
+                                          final @NonNull Function<Locale, String> fallback) {
+        return new TranslationHandle(this, key, fallback);
+    }
 
-        Map<String, String> localeMap = translationCache.computeIfAbsent(localeTag, tag ->
-                loadTranslationsSafe(locale, exception)
-        );
+    @NonNull String translate(final @NonNull TranslationHandle handle,
+                              final @NonNull Locale locale) {
+        // note: bounded or expiring caches have to see every access to evict the right locale
+        if (!translationCache.tracksAccess()
+                && translationCache.peek(locale) instanceof IndexedTranslations translations) {
+            int id = handle.id;
+            if (id < 0 && (id = keys.find(handle.getKey())) >= 0) handle.id = id;
 
-        String value = localeMap.computeIfAbsent(key, k -> {
+            final String value = id >= 0 ? translations.get(id) : null;
+            if (value != null) return value;
+        }
+        return translate(handle.getKey(), handle.getFallback(), locale);
+    }
 
-            if (!locale.equals(defaultLocale)) {
-                Map<String, String> defaultMap = translationCache.computeIfAbsent(defaultTag, tag ->
-                        loadTranslationsSafe(defaultLocale, exception)
-                );
+    private @Nullable String lookup(final @NonNull String key,
+                                    final @NonNull Locale locale) {
+        final Map<String, String> translations = translations(locale);
+        // note: a layered view probes every layer, so a known miss skips them all
+        if (translations instanceof LayeredTranslations && missingKeys.contains(locale, translations, key)) return null;
 
-                String defaultValue = defaultMap.get(k);
-                if (defaultValue != null) {
-                    localeMap.put(k, defaultValue);
-                    return defaultValue;
-                }
-            }
+        final String value = translations.get(key);
+        if (value != null) return value;
+
+        if (missingKeys.add(locale, translations, key))
+            log.debug("Missing translation for key '{}' in locale {}", key, locale.toLanguageTag());
+        return null;
+    }
+
+    private @NonNull Map<String, String> translations(final @NonNull Locale locale) {
+        final Map<String, String> cached = translationCache.get(locale);
+        if (cached != null) return cached;
+
+        try {
+            return translationCache.miss(locale, this::loadTranslations).join();
+        } catch (CompletionException e) {
+            Throwable cause = e;
+            while (cause instanceof CompletionException && cause.getCause() != null) cause = cause.getCause();
+            if (cause instanceof RuntimeException runtime) throw runtime;
+            throw e;
+        }
+    }
 
-            return fallback.apply(locale);
+    private void removed(final @NonNull Locale locale) {
+        templateCache.remove(locale);
+        missingKeys.remove(locale);
+        // note: chains are only needed for cached locales, so bounded caches stay bounded
+        chainCache.remove(locale);
+        prune();
+    }
+
+    private @NonNull Map<String, MessageTemplate> templates(final @NonNull Locale locale,
+                                                            final @NonNull MappingRule rule) {
+        Map<MappingRule, Map<String, MessageTemplate>> byRule = templateCache.get(locale);
+        if (byRule == null) byRule = templateCache.computeIfAbsent(locale, l -> new ConcurrentHashMap<>());
+
+        final Map<String, MessageTemplate> templates = byRule.get(rule);
+        if (templates != null) return templates;
+        return byRule.computeIfAbsent(rule, r -> new ConcurrentHashMap<>());
+    }
+
+    /**
+     * Resolves the fallback chain of a locale: the locale itself, the locales of the
+     * {@link FallbackPolicy}, then the default locale, without duplicates.
+     */
+    private @NonNull List<Locale> chain(final @NonNull Locale locale) {
+        final List<Locale> cached = chainCache.get(locale);
+        if (cached != null) return cached;
+
+        final Set<Locale> chain = new LinkedHashSet<>();
+        chain.add(locale);
+        chain.addAll(fallbackPolicy.fallbacks(locale));
+        chain.add(this.locale);
+
+        final List<Locale> resolved = List.copyOf(chain);
+        chainCache.put(locale, resolved);
+        return resolved;
+    }
+
+    /**
+     * Loads every locale of the chain in parallel and flattens them into one view,
+     * so a lookup is a single hash probe. Locales earlier in the chain win.
+     *
+     * <p>Each locale is streamed into an array indexed by the provider's {@link KeyDictionary},
+     * so keys are stored once for all locales and merging the chain is a pass over arrays.
+     * Locales a source handed over as read-only views are layered instead of merged,
+     * keeping them off-heap.</p>
+     *
+     * <p>Chain members are read from the source once and kept while any cached locale
+     * falls back to them, so e.g. the default locale is not read again for every locale.</p>
+     */
+    private @NonNull CompletableFuture<Map<String, String>> loadTranslations(final @NonNull Locale locale) {
+        final List<Locale> chain = chain(locale);
+        final List<CompletableFuture<Map<String, String>>> layers = new ArrayList<>(chain.size());
+
+        for (int i = 0; i < chain.size(); i++) {
+            final Locale member = chain.get(i);
+            layers.add(layer(member, i != 0 && !member.equals(this.locale)));
+        }
+
+        return CompletableFuture.allOf(layers.toArray(CompletableFuture[]::new)).thenApply(v -> {
+            final List<IndexedTranslations> indexed = new ArrayList<>(layers.size());
+            for (final CompletableFuture<Map<String, String>> layer : layers) {
+                if (!(layer.join() instanceof IndexedTranslations translations)) return layered(layers);
+                indexed.add(translations);
+            }
+            return IndexedTranslations.merge(keys, indexed);
+        }).whenComplete((translations, error) -> {
+            // note: the cache keeps the failure for a while, so this is logged once per attempt
+            if (error != null) log.warn("Failed to load translations for locale {}", locale.toLanguageTag(), error);
         });
+    }
 
-        if (exception.get() != null) {
-            throw exception.get();
+    private static @NonNull Map<String, String> layered(final @NonNull List<CompletableFuture<Map<String, String>>> layers) {
+        final List<Map<String, String>> views = new ArrayList<>(layers.size());
+        long weight = 64;
+
+        for (final CompletableFuture<Map<String, String>> layer : layers) {
+            final Map<String, String> translations = layer.join();
+            if (translations.isEmpty()) continue;
+            views.add(translations);
+            // note: adopted views keep their data off-heap, only their value cache is on it
+            weight += translations instanceof IndexedTranslations
+                    ? TranslationCache.weigh(translations) : 8L * translations.size();
         }
 
-        return value;
+        return new LayeredTranslations(views, weight);
     }
 
-    @Contract("_, _ -> new")
-    private @NonNull Map<String, String> loadTranslationsSafe(Locale locale,
-                                                                                       AtomicReference<RuntimeException> exception) {
-        try {
-            Map<String, String> translations = source.loadLanguage(locale);
-            return new ConcurrentHashMap<>(translations);
-        } catch (Exception e) {
-            exception.set(new RuntimeException(
-                    "Failed to load translations for locale: " + locale.toLanguageTag(), e
-            ));
-            return new ConcurrentHashMap<>();
+    /**
+     * Returns a chain member's translations, reading them from the source only if no
+     * cached locale has loaded them yet. Concurrent loads share one read.
+     */
+    private @NonNull CompletableFuture<Map<String, String>> layer(final @NonNull Locale member,
+                                                                  final boolean optional) {
+        CompletableFuture<Map<String, String>> layer = layers.get(member);
+        if (layer == null) {
+            final CompletableFuture<Map<String, String>> created = new CompletableFuture<>();
+            layer = layers.putIfAbsent(member, created);
+            if (layer == null) {
+                layer = created;
+                read(member, optional).whenComplete((translations, error) -> {
+                    if (error == null) {
+                        created.complete(translations);
+                        return;
+                    }
+                    // note: failures are not kept, so the next load retries them
+                    layers.remove(member, created);
+                    created.completeExceptionally(error);
+                });
+            }
         }
+
+        return layer.handle((loaded, error) -> {
+            if (error == null) return loaded;
+
+            final Throwable cause = error instanceof CompletionException && error.getCause() != null
+                    ? error.getCause() : error;
+            if (!optional) throw new CompletionException(new RuntimeException(
+                    "Failed to load translations for locale: " + member.toLanguageTag(), cause));
+
+            log.warn("Skipping fallback locale {} that failed to load", member.toLanguageTag(), cause);
+            return Map.of();
+        });
+    }
+
+    private @NonNull CompletableFuture<Map<String, String>> read(final @NonNull Locale member,
+                                                                 final boolean optional) {
+        final LayerSink sink = new LayerSink(keys);
+        // note: parents like "de" are optional, so we only load them if the source has them
+        return (optional
+                ? CompletableFuture.supplyAsync(() -> source.supportsLanguage(member), executor)
+                        .thenCompose(supported -> supported
+                                ? source.loadLanguageAsync(member, executor, sink)
+                                : CompletableFuture.<Void>completedFuture(null))
+                : source.loadLanguageAsync(member, executor, sink))
+                .thenApply(v -> sink.translations());
+    }
+
+    /**
+     * Returns the translations kept for a chain member, or {@code null} if none are loaded.
+     */
+    private @Nullable Map<String, String> kept(final @NonNull Locale member) {
+        final CompletableFuture<Map<String, String>> layer = layers.get(member);
+        return layer != null && layer.isDone() && !layer.isCompletedExceptionally() ? layer.join() : null;
+    }
+
+    /**
+     * Drops kept chain members that no cached locale falls back to anymore.
+     */
+    private void prune() {
+        layers.keySet().removeIf(member -> !used(member));
+    }
+
+    /**
+     * Returns whether any cached locale falls back to the given chain member.
+     */
+    private boolean used(final @NonNull Locale member) {
+        for (final Locale locale : translationCache.locales()) if (chain(locale).contains(member)) return true;
+        return false;
     }
 
     @Override
@@ -207,16 +480,250 @@ public class CommonLinguaeProvider implements LinguaeProvider {
         }
     }
 
+    @Override
+    public @NonNull CompletableFuture<Void> preload(final @NonNull Collection<Locale> locales) {
+        return CompletableFuture.allOf(locales.stream()
+                .distinct()
+                .map(l -> translationCache.load(l, this::loadTranslations))
+                .toArray(CompletableFuture[]::new));
+    }
+
+    /**
+     * Returns the current counters of the locale cache.
+     *
+     * @return a snapshot of the cache statistics, never null
+     */
+    public @NonNull CacheStats getCacheStats() {
+        return translationCache.stats();
+    }
+
+    /**
+     * Reloads locales as soon as the source reports them as changed, e.g. edited language files.
+     *
+     * <p>A change only reads the changed locale again, diffs it against the translations
+     * the provider kept from its last read and resolves just the differing keys on a copy
+     * of every loaded locale falling back to it. Each copy replaces the old map in a single
+     * swap, so lookups see either the old or the new translations and never a partially
+     * reloaded locale.</p>
+     *
+     * @return a handle that stops watching once closed
+     * @throws IOException if the source cannot be watched
+     * @throws IllegalStateException if the source is already watched
+     * @since 1.3.0
+     */
+    public synchronized @NonNull Closeable watchSource() throws IOException {
+        if (watching) throw new IllegalStateException("Source is already watched");
+
+        final Closeable watch = source.watch(this::changed);
+        watching = true;
+
+        return () -> {
+            watch.close();
+            synchronized (this) {
+                watching = false;
+            }
+        };
+    }
+
+    private void changed(final @NonNull Locale changed) {
+        // note: nothing falls back to this locale, so its file is neither read nor kept
+        if (!used(changed)) {
+            layers.remove(changed);
+            return;
+        }
+
+        final LayerSink sink = new LayerSink(keys);
+        try {
+            final Map<String, String> loaded = source.loadLanguage(changed);
+            sink.expect(loaded.size());
+            loaded.forEach(sink::accept);
+        } catch (Exception e) {
+            log.warn("Failed to reload translations for locale {}", changed.toLanguageTag(), e);
+            return;
+        }
+
+        final Map<String, String> fresh = sink.translations();
+        final Map<String, String> previous = kept(changed);
+        // note: the locales falling back to it may have been evicted while reading
+        if (!used(changed)) {
+            layers.remove(changed);
+            return;
+        }
+        layers.put(changed, CompletableFuture.completedFuture(fresh));
+        final Set<String> keys = previous != null ? diff(previous, fresh) : null;
+        if (keys != null && keys.isEmpty()) return;
+
+        for (final Locale cached : translationCache.locales()) {
+            final List<Locale> chain = chain(cached);
+            if (!chain.contains(changed)) continue;
+
+            final Map<String, String> current = translationCache.peek(cached);
+            if (current == null) {
+                // note: may still be loading the old file, so the next lookup loads it again
+                translationCache.remove(cached);
+                continue;
+            }
+
+            final Map<String, String> patched = keys != null ? patch(current, chain, keys) : null;
+            if (patched != null) {
+                publish(cached, current, patched);
+                continue;
+            }
+
+            // note: a member was dropped or is still loading, so there is nothing to diff against
+            refresh(cached, current).exceptionally(error -> {
+                log.warn("Failed to reload translations for locale {}", cached.toLanguageTag(), error);
+                return null;
+            });
+        }
+
+        log.debug("Reloaded locale {} ({} changed keys)", changed.toLanguageTag(),
+                keys != null ? keys.size() : fresh.size());
+    }
+
+    /**
+     * Builds a new snapshot of a loaded locale in the background and swaps it in.
+     */
+    private @NonNull CompletableFuture<Void> refresh(final @NonNull Locale locale,
+                                                     final @NonNull Map<String, String> current) {
+        return loadTranslations(locale).thenAccept(translations -> publish(locale, current, translations));
+    }
+
+    private void publish(final @NonNull Locale locale,
+                         final @NonNull Map<String, String> current,
+                         final @NonNull Map<String, String> translations) {
+        // note: templates are dropped after the swap, so they are only compiled from the new map again
+        if (translationCache.replace(locale, current, translations)) templateCache.remove(locale);
+    }
+
+    private static @NonNull Set<String> diff(final @NonNull Map<String, String> previous,
+                                             final @NonNull Map<String, String> fresh) {
+        final Set<String> keys = new HashSet<>();
+        fresh.forEach((key, value) -> {
+            if (!value.equals(previous.get(key))) keys.add(key);
+        });
+        for (final String key : previous.keySet())
+            if (!fresh.containsKey(key)) keys.add(key);
+        return keys;
+    }
+
+    /**
+     * Resolves the changed keys of a view anew along its chain, or returns {@code null}
+     * if a locale they depend on was never kept.
+     */
+    private @Nullable Map<String, String> patch(final @NonNull Map<String, String> current,
+                                                final @NonNull List<Locale> chain,
+                                                final @NonNull Set<String> keys) {
+        if (!(current instanceof IndexedTranslations indexed)) return null;
+        final Map<String, String> changes = HashMap.newHashMap(keys.size());
+
+        for (final String key : keys) {
+            String value = null;
+            for (final Locale member : chain) {
+                final Map<String, String> layer = kept(member);
+                if (layer == null) return null;
+                value = layer.get(key);
+                if (value != null) break;
+            }
+
+            changes.put(key, value);
+        }
+        return indexed.with(changes);
+    }
+
     @Override
     public void clearCache() {
+        layers.clear();
         // note: we can clear sub maps for faster Garbage Collection
         translationCache.clear();
+        templateCache.clear();
+        chainCache.clear();
+        missingKeys.clear();
     }
 
+    /**
+     * Reloads the given locale in the background, see {@link #reload(Locale)}.
+     *
+     * <p>Unlike dropping the locale, lookups keep answering from the current translations
+     * until the reload is complete. If it fails, they stay in use and the failure is logged.</p>
+     */
     @Override
     public void clearCache(@NonNull Locale locale) {
-        if (translationCache.containsKey(locale.toLanguageTag()))
-            translationCache.get(locale.toLanguageTag()).clear();
+        reload(locale).exceptionally(error -> {
+            log.warn("Failed to reload translations for locale {}", locale.toLanguageTag(), error);
+            return null;
+        });
+    }
+
+    @Override
+    public @NonNull CompletableFuture<Void> reload(final @NonNull Locale locale) {
+        layers.remove(locale);
+
+        // note: every view that has this locale in its chain contains stale entries
+        final List<CompletableFuture<Void>> reloads = new ArrayList<>();
+        for (final Locale cached : translationCache.locales()) {
+            if (!chain(cached).contains(locale)) continue;
+
+            final Map<String, String> current = translationCache.peek(cached);
+            if (current != null) reloads.add(refresh(cached, current));
+            else translationCache.remove(cached); // note: still loading, possibly the old data
+        }
+
+        return CompletableFuture.allOf(reloads.toArray(CompletableFuture[]::new));
+    }
+
+    /**
+     * Collects one locale of a chain into an array indexed by key id, sized from the hint
+     * of the source. Read-only maps handed over as a whole are kept as they are.
+     */
+    private static final class LayerSink implements TranslationSink {
+        private final KeyDictionary keys;
+        private String[] values;
+        private int size;
+        private Map<String, String> translations;
+        private boolean adopted;
+
+        private LayerSink(final @NonNull KeyDictionary keys) {
+            this.keys = keys;
+        }
+
+        private @NonNull Map<String, String> translations() {
+            if (translations == null)
+                translations = new IndexedTranslations(keys, values != null ? values : new String[0], size);
+            return translations;
+        }
+
+        @Override
+        public void expect(final int size) {
+            // note: a locale usually has most keys the dictionary already knows
+            if (values == null && translations == null) values = new String[Math.max(size, keys.size())];
+        }
+
+        @Override
+        public void accept(final @NonNull String key, final @NonNull String value) {
+            if (adopted) {
+                final Map<String, String> translations = this.translations;
+                this.translations = null;
+                adopted = false;
+                translations.forEach(this::accept);
+            }
+
+            final int id = keys.id(key);
+            if (values == null) values = new String[Math.max(16, keys.size())];
+            if (id >= values.length) values = Arrays.copyOf(values, Math.max(id + 1, values.length + (values.length >> 1)));
+            if (values[id] == null) size++;
+            values[id] = value;
+        }
+
+        @Override
+        public void acceptAll(final @NonNull Map<String, String> translations) {
+            if (size != 0 || this.translations != null) {
+                TranslationSink.super.acceptAll(translations);
+                return;
+            }
+            this.translations = translations;
+            this.adopted = true;
+        }
     }
 
 }
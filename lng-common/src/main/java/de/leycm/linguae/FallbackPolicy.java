@@ -0,0 +1,111 @@
+/**
+ * LECP-LICENSE NOTICE
+ * <br><br>
+ * This Sourcecode is under the LECP-LICENSE. <br>
+ * License at: <a href="https://github.com/leycm/leycm/blob/main/LICENSE">GITHUB</a>
+ * <br><br>
+ * Copyright (c) LeyCM <a href="mailto:leycm@proton.me">leycm@proton.me</a> l <br>
+ * Copyright (c) maintainers <br>
+ * Copyright (c) contributors
+ */
+package de.leycm.linguae;
+
+import lombok.NonNull;
+import org.jetbrains.annotations.Contract;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Decides which locales are consulted when a key is missing in the requested locale.
+ *
+ * <p>A policy only returns the intermediate locales, highest priority first. The
+ * provider always consults the requested locale first and its default locale last,
+ * so a chain for {@code de-AT} under {@link #regionToLanguage()} resolves to
+ * {@code de-AT → de → en-US}.</p>
+ *
+ * <p>Chains are resolved once per locale when its translations are loaded, so a
+ * policy is never consulted on the translation hot path.</p>
+ *
+ * @see CommonLinguaeProvider.Builder#fallbackPolicy(FallbackPolicy)
+ * @since 1.3.0
+ * @author Lennard [leycm@proton.me]
+ */
+@FunctionalInterface
+public interface FallbackPolicy {
+
+    /**
+     * Returns the locales consulted after {@code locale} and before the default locale.
+     *
+     * @param locale the requested locale
+     * @return the intermediate fallback locales, highest priority first, never null
+     */
+    @NonNull List<Locale> fallbacks(@NonNull Locale locale);
+
+    /**
+     * Falls back from the requested locale straight to the default locale.
+     *
+     * @return the policy, never null
+     */
+    @Contract(pure = true)
+    static @NonNull FallbackPolicy defaultLocale() {
+        return locale -> List.of();
+    }
+
+    /**
+     * Falls back through the parents of the requested locale, dropping the variant,
+     * then the region, then the script ({@code zh-Hant-TW → zh-Hant → zh}).
+     *
+     * @return the policy, never null
+     */
+    @Contract(pure = true)
+    static @NonNull FallbackPolicy regionToLanguage() {
+        return locale -> {
+            final List<Locale> parents = new ArrayList<>(3);
+            Locale current = locale.stripExtensions();
+
+            while (!current.getLanguage().isEmpty()) {
+                final String language = current.getLanguage();
+                final String script = current.getScript();
+                final String country = current.getCountry();
+
+                if (!current.getVariant().isEmpty()) current = parent(language, script, country);
+                else if (!country.isEmpty()) current = parent(language, script, "");
+                else if (!script.isEmpty()) current = parent(language, "", "");
+                else break;
+
+                parents.add(current);
+            }
+
+            return parents;
+        };
+    }
+
+    private static @NonNull Locale parent(final @NonNull String language,
+                                          final @NonNull String script,
+                                          final @NonNull String country) {
+        // note: Locale.Builder rejects legacy locales like ja_JP_JP, only well-formed ones carry a script
+        if (script.isEmpty()) return Locale.of(language, country);
+        return new Locale.Builder().setLanguage(language).setScript(script).setRegion(country).build();
+    }
+
+    /**
+     * Uses an explicit chain per locale and {@code otherwise} for locales without one.
+     *
+     * @param chains the intermediate fallback locales per requested locale
+     * @param otherwise the policy for locales not contained in {@code chains}
+     * @return the policy, never null
+     * @throws NullPointerException if chains or otherwise is null
+     */
+    @Contract("_, _ -> new")
+    static @NonNull FallbackPolicy explicit(final @NonNull Map<Locale, List<Locale>> chains,
+                                            final @NonNull FallbackPolicy otherwise) {
+        final Map<Locale, List<Locale>> copy = Map.copyOf(chains);
+        return locale -> {
+            final List<Locale> chain = copy.get(locale);
+            return chain != null ? chain : otherwise.fallbacks(locale);
+        };
+    }
+}
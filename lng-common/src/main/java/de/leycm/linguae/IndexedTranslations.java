@@ -0,0 +1,167 @@
+/**
+ * LECP-LICENSE NOTICE
+ * <br><br>
+ * This Sourcecode is under the LECP-LICENSE. <br>
+ * License at: <a href="https://github.com/leycm/leycm/blob/main/LICENSE">GITHUB</a>
+ * <br><br>
+ * Copyright (c) LeyCM <a href="mailto:leycm@proton.me">leycm@proton.me</a> l <br>
+ * Copyright (c) maintainers <br>
+ * Copyright (c) contributors
+ */
+package de.leycm.linguae;
+
+import lombok.NonNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * Immutable translations of a locale, stored as values indexed by {@link KeyDictionary} id.
+ *
+ * <p>Keys are shared with every other locale through the dictionary, so a locale only
+ * costs one array slot per known key plus its values. A lookup resolves the key's id once
+ * and reads the slot; callers that already know the id skip the hashing entirely.</p>
+ *
+ * @since 1.3.0
+ * @author Lennard [leycm@proton.me]
+ */
+final class IndexedTranslations extends AbstractMap<String, String> {
+
+    private final KeyDictionary keys;
+    private final String[] values;
+    private final int size;
+
+    IndexedTranslations(final @NonNull KeyDictionary keys, final String @NonNull [] values, final int size) {
+        this.keys = keys;
+        this.values = values;
+        this.size = size;
+    }
+
+    /**
+     * Merges the locales of a fallback chain, highest priority first. The layers
+     * are left untouched, so they may be kept and merged again.
+     */
+    static @NonNull IndexedTranslations merge(final @NonNull KeyDictionary keys,
+                                              final @NonNull List<IndexedTranslations> layers) {
+        int length = 0;
+        for (final IndexedTranslations layer : layers) length = Math.max(length, layer.values.length);
+
+        final IndexedTranslations first = layers.get(0);
+        final String[] merged = Arrays.copyOf(first.values, length);
+        int size = first.size;
+
+        for (int i = 1; i < layers.size(); i++) {
+            final String[] values = layers.get(i).values;
+            for (int id = 0; id < values.length; id++) {
+                if (merged[id] != null || values[id] == null) continue;
+                merged[id] = values[id];
+                size++;
+            }
+        }
+        return new IndexedTranslations(keys, merged, size);
+    }
+
+    /**
+     * Returns a copy with the given keys changed, {@code null} values removing a key.
+     */
+    @NonNull IndexedTranslations with(final @NonNull Map<String, String> changes) {
+        final int[] ids = new int[changes.size()];
+        int length = values.length;
+        int i = 0;
+        for (final Map.Entry<String, String> change : changes.entrySet()) {
+            final int id = change.getValue() != null ? keys.id(change.getKey()) : keys.find(change.getKey());
+            ids[i++] = id;
+            length = Math.max(length, id + 1);
+        }
+
+        final String[] values = Arrays.copyOf(this.values, length);
+        int size = this.size;
+        i = 0;
+        for (final String value : changes.values()) {
+            final int id = ids[i++];
+            if (id < 0) continue;
+
+            if (values[id] == null && value != null) size++;
+            else if (values[id] != null && value == null) size--;
+            values[id] = value;
+        }
+        return new IndexedTranslations(keys, values, size);
+    }
+
+    @NonNull KeyDictionary dictionary() {
+        return keys;
+    }
+
+    /**
+     * Returns the value stored for a key id, or {@code null} if this locale has none.
+     */
+    @Nullable String get(final int id) {
+        return id >= 0 && id < values.length ? values[id] : null;
+    }
+
+    /**
+     * Returns the estimated heap usage in bytes. Keys belong to the dictionary and are not counted.
+     */
+    long weight() {
+        long bytes = 64 + 4L * values.length;
+        for (final String value : values) if (value != null) bytes += 40 + 2L * value.length();
+        return bytes;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public String get(final Object key) {
+        return key instanceof String string ? get(keys.find(string)) : null;
+    }
+
+    @Override
+    public boolean containsKey(final Object key) {
+        return get(key) != null;
+    }
+
+    @Override
+    public @NonNull Set<Entry<String, String>> entrySet() {
+        return new AbstractSet<>() {
+            @Override
+            public int size() {
+                return size;
+            }
+
+            @Override
+            public @NonNull Iterator<Entry<String, String>> iterator() {
+                return new Iterator<>() {
+                    private int id = advance(0);
+
+                    private int advance(int id) {
+                        while (id < values.length && values[id] == null) id++;
+                        return id;
+                    }
+
+                    @Override
+                    public boolean hasNext() {
+                        return id < values.length;
+                    }
+
+                    @Override
+                    public Entry<String, String> next() {
+                        if (id >= values.length) throw new NoSuchElementException();
+                        final Entry<String, String> entry = new SimpleImmutableEntry<>(keys.key(id), values[id]);
+                        id = advance(id + 1);
+                        return entry;
+                    }
+                };
+            }
+        };
+    }
+}
@@ -0,0 +1,70 @@
+/**
+ * LECP-LICENSE NOTICE
+ * <br><br>
+ * This Sourcecode is under the LECP-LICENSE. <br>
+ * License at: <a href="https://github.com/leycm/leycm/blob/main/LICENSE">GITHUB</a>
+ * <br><br>
+ * Copyright (c) LeyCM <a href="mailto:leycm@proton.me">leycm@proton.me</a> l <br>
+ * Copyright (c) maintainers <br>
+ * Copyright (c) contributors
+ */
+package de.leycm.linguae;
+
+import lombok.NonNull;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Provider-wide dictionary numbering every distinct translation key.
+ *
+ * <p>Locales store their values in arrays indexed by these ids, so each key string is
+ * held once for all locales instead of once per locale. Ids are never reused or removed,
+ * the dictionary only grows with keys the source has ever returned.</p>
+ *
+ * @since 1.3.0
+ * @author Lennard [leycm@proton.me]
+ */
+final class KeyDictionary {
+
+    private final Map<String, Integer> ids = new ConcurrentHashMap<>();
+    // note: an element is always written before its id is published through the map
+    private volatile String[] keys = new String[256];
+    private int size;
+
+    /**
+     * Returns the id of a key, assigning the next free one if the key is new.
+     */
+    int id(final @NonNull String key) {
+        final Integer id = ids.get(key);
+        if (id != null) return id;
+
+        synchronized (this) {
+            final Integer assigned = ids.get(key);
+            if (assigned != null) return assigned;
+
+            String[] keys = this.keys;
+            if (size == keys.length) this.keys = keys = Arrays.copyOf(keys, size << 1);
+            keys[size] = key;
+            ids.put(key, size);
+            return size++;
+        }
+    }
+
+    /**
+     * Returns the id of a key, or {@code -1} if no locale ever had it.
+     */
+    int find(final @NonNull String key) {
+        final Integer id = ids.get(key);
+        return id != null ? id : -1;
+    }
+
+    @NonNull String key(final int id) {
+        return keys[id];
+    }
+
+    int size() {
+        return ids.size();
+    }
+}
@@ -0,0 +1,69 @@
+/**
+ * LECP-LICENSE NOTICE
+ * <br><br>
+ * This Sourcecode is under the LECP-LICENSE. <br>
+ * License at: <a href="https://github.com/leycm/leycm/blob/main/LICENSE">GITHUB</a>
+ * <br><br>
+ * Copyright (c) LeyCM <a href="mailto:leycm@proton.me">leycm@proton.me</a> l <br>
+ * Copyright (c) maintainers <br>
+ * Copyright (c) contributors
+ */
+package de.leycm.linguae;
+
+import lombok.NonNull;
+
+import java.util.AbstractMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Read-only view over the locales of a fallback chain, highest priority first.
+ *
+ * <p>Used instead of a merged map when a source hands over its translations as a view,
+ * e.g. of a memory-mapped bundle, so they are consulted in place rather than copied
+ * onto the heap. A lookup probes each locale until one has the key.</p>
+ *
+ * @since 1.3.0
+ * @author Lennard [leycm@proton.me]
+ */
+final class LayeredTranslations extends AbstractMap<String, String> {
+
+    private final List<Map<String, String>> layers;
+    private final long weight;
+
+    LayeredTranslations(final @NonNull List<Map<String, String>> layers, final long weight) {
+        this.layers = List.copyOf(layers);
+        this.weight = weight;
+    }
+
+    /**
+     * Returns the estimated heap usage in bytes, not counting data that lives off-heap.
+     */
+    long weight() {
+        return weight;
+    }
+
+    @Override
+    public String get(final Object key) {
+        for (final Map<String, String> layer : layers) {
+            final String value = layer.get(key);
+            if (value != null) return value;
+        }
+        return null;
+    }
+
+    @Override
+    public boolean containsKey(final Object key) {
+        return get(key) != null;
+    }
+
+    @Override
+    public @NonNull Set<Entry<String, String>> entrySet() {
+        // note: only needed for iteration, which the provider never does on its hot path
+        final Map<String, String> merged = new HashMap<>();
+        for (int i = layers.size() - 1; i >= 0; i--) merged.putAll(layers.get(i));
+        return Set.copyOf(merged.entrySet());
+    }
+}
@@ -0,0 +1,84 @@
+/**
+ * LECP-LICENSE NOTICE
+ * <br><br>
+ * This Sourcecode is under the LECP-LICENSE. <br>
+ * License at: <a href="https://github.com/leycm/leycm/blob/main/LICENSE">GITHUB</a>
+ * <br><br>
+ * Copyright (c) LeyCM <a href="mailto:leycm@proton.me">leycm@proton.me</a> l <br>
+ * Copyright (c) maintainers <br>
+ * Copyright (c) contributors
+ */
+package de.leycm.linguae;
+
+import lombok.NonNull;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Bounded negative cache of translation keys that a locale does not provide.
+ *
+ * <p>Missing keys are recorded together with the translations they were looked up in.
+ * Once a locale is loaded again or replaced, its old keys no longer match and are
+ * dropped on the next miss, so a reload never has to invalidate the cache.</p>
+ *
+ * <p>Each locale remembers at most {@code limit} keys. Once a locale is full its
+ * set is dropped and starts over, so generated or user-supplied keys can never
+ * grow the cache without bound.</p>
+ *
+ * @since 1.3.0
+ * @author Lennard [leycm@proton.me]
+ */
+final class MissingKeyCache {
+
+    private final Map<Locale, Missing> locales = new ConcurrentHashMap<>();
+    private final int limit;
+
+    MissingKeyCache(final int limit) {
+        this.limit = limit;
+    }
+
+    /**
+     * Checks whether a key is known to be missing from the given translations of a locale.
+     */
+    boolean contains(final @NonNull Locale locale,
+                     final @NonNull Map<String, String> translations,
+                     final @NonNull String key) {
+        final Missing missing = locales.get(locale);
+        return missing != null && missing.translations == translations && missing.keys.contains(key);
+    }
+
+    /**
+     * Records a key missing from the given translations of a locale.
+     *
+     * @return {@code true} if the key was not recorded before
+     */
+    boolean add(final @NonNull Locale locale,
+                final @NonNull Map<String, String> translations,
+                final @NonNull String key) {
+        if (limit <= 0) return true;
+
+        Missing missing = locales.get(locale);
+        if (missing == null || missing.translations != translations)
+            missing = locales.compute(locale, (l, current) -> current != null && current.translations == translations
+                    ? current : new Missing(translations));
+        if (missing.keys.size() >= limit) missing.keys.clear();
+        return missing.keys.add(key);
+    }
+
+    void remove(final @NonNull Locale locale) {
+        locales.remove(locale);
+    }
+
+    void clear() {
+        locales.clear();
+    }
+
+    private record Missing(@NonNull Map<String, String> translations, @NonNull Set<String> keys) {
+        private Missing(final @NonNull Map<String, String> translations) {
+            this(translations, ConcurrentHashMap.newKeySet());
+        }
+    }
+}
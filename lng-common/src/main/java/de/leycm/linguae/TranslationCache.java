@@ -0,0 +1,284 @@
+/**
+ * LECP-LICENSE NOTICE
+ * <br><br>
+ * This Sourcecode is under the LECP-LICENSE. <br>
+ * License at: <a href="https://github.com/leycm/leycm/blob/main/LICENSE">GITHUB</a>
+ * <br><br>
+ * Copyright (c) LeyCM <a href="mailto:leycm@proton.me">leycm@proton.me</a> l <br>
+ * Copyright (c) maintainers <br>
+ * Copyright (c) contributors
+ */
+package de.leycm.linguae;
+
+import lombok.NonNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Locale cache of a {@link CommonLinguaeProvider}, enforcing its {@link CachePolicy}.
+ *
+ * <p>Each locale is cached as soon as its load starts, holding a future that every
+ * concurrent request for that locale shares. The load is started outside of any map
+ * lock, so requests for other locales are never blocked. A failed load is kept until
+ * the retry delay of the policy passed, so requests in between fail without loading
+ * the locale again; the first request after it starts a new load.</p>
+ *
+ * <p>Reads are a single map lookup. Access times are only recorded when the policy
+ * is bounded or expires. Expired locales are dropped when they are read or when
+ * another locale is loaded, and size limits are enforced after every load. Locales
+ * are few, so the least recently used one is found with a linear scan.</p>
+ *
+ * @since 1.3.0
+ * @author Lennard [leycm@proton.me]
+ */
+final class TranslationCache {
+
+    private final Map<Locale, Entry> entries = new ConcurrentHashMap<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder loads = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    private final CachePolicy policy;
+    private final Consumer<Locale> removalListener;
+    private final boolean tracksAccess;
+
+    TranslationCache(final @NonNull CachePolicy policy,
+                     final @NonNull Consumer<Locale> removalListener) {
+        this.policy = policy;
+        this.removalListener = removalListener;
+        this.tracksAccess = policy.isBounded() || policy.expires();
+    }
+
+    /**
+     * Returns the translations of a loaded locale, or {@code null} if it is absent, still
+     * loading or expired. Misses are counted by {@link #miss} instead, once per load.
+     */
+    @Nullable Map<String, String> get(final @NonNull Locale locale) {
+        final Entry entry = entries.get(locale);
+        if (entry == null || entry.translations == null) return null;
+
+        if (tracksAccess) {
+            final long now = System.nanoTime();
+            if (policy.expires() && policy.isExpired(entry.loadedAt, entry.accessedAt, now)) {
+                if (remove(locale, entry)) evictions.increment();
+                return null;
+            }
+            entry.accessedAt = now;
+        }
+
+        hits.increment();
+        return entry.translations;
+    }
+
+    /**
+     * Returns the translations of a locale, loading them if needed.
+     *
+     * <p>Only the first caller starts {@code loader}; concurrent callers share its future.</p>
+     */
+    @NonNull CompletableFuture<Map<String, String>> load(final @NonNull Locale locale,
+                                                         final @NonNull Function<Locale, CompletableFuture<Map<String, String>>> loader) {
+        return load(locale, loader, false);
+    }
+
+    /**
+     * Loads a locale that {@link #get} did not return, like {@link #load}. Only the caller
+     * that starts the load counts a miss, callers waiting for it count nothing.
+     */
+    @NonNull CompletableFuture<Map<String, String>> miss(final @NonNull Locale locale,
+                                                         final @NonNull Function<Locale, CompletableFuture<Map<String, String>>> loader) {
+        return load(locale, loader, true);
+    }
+
+    private @NonNull CompletableFuture<Map<String, String>> load(final @NonNull Locale locale,
+                                                                 final @NonNull Function<Locale, CompletableFuture<Map<String, String>>> loader,
+                                                                 final boolean miss) {
+        final Entry[] created = new Entry[1];
+        Entry entry = entries.computeIfAbsent(locale, l -> created[0] = new Entry());
+        if (created[0] != entry) {
+            if (!entry.failed || !policy.isRetryDue(entry.failedAt, System.nanoTime())) {
+                // note: the future keeps the first load, a replaced locale has to answer with its current map
+                final Map<String, String> translations = entry.translations;
+                return translations != null ? CompletableFuture.completedFuture(translations) : entry.future;
+            }
+
+            // note: only the caller swapping out the failed entry retries, everyone else joins it
+            final Entry retry = new Entry();
+            if (!entries.replace(locale, entry, retry)) return load(locale, loader, miss);
+            entry = retry;
+        }
+        if (miss) misses.increment();
+
+        final CompletableFuture<Map<String, String>> loading;
+        try {
+            loading = loader.apply(locale);
+        } catch (RuntimeException | Error e) {
+            fail(locale, entry, e);
+            throw e;
+        }
+
+        final Entry loaded = entry;
+        loading.whenComplete((translations, error) -> {
+            if (error != null) {
+                fail(locale, loaded, error);
+                return;
+            }
+
+            loaded.loaded(translations, weigh(translations), System.nanoTime());
+            loads.increment();
+            if (policy.expires()) expire(locale);
+            if (policy.isBounded()) evict(locale);
+            // note: waiters are only released once the limits are enforced again
+            loaded.future.complete(translations);
+        });
+
+        return entry.future;
+    }
+
+    private void fail(final @NonNull Locale locale,
+                      final @NonNull Entry entry,
+                      final @NonNull Throwable error) {
+        if (!policy.keepsFailures()) entries.remove(locale, entry);
+        else {
+            entry.failed(System.nanoTime());
+            // note: kept failures take a slot like loaded locales, so they are evicted the same way
+            if (policy.isBounded()) evict(locale);
+        }
+        entry.future.completeExceptionally(error);
+    }
+
+    boolean tracksAccess() {
+        return tracksAccess;
+    }
+
+    /**
+     * Returns the translations of a locale without counting a hit or miss,
+     * or {@code null} if it is not loaded.
+     */
+    @Nullable Map<String, String> peek(final @NonNull Locale locale) {
+        final Entry entry = entries.get(locale);
+        return entry != null ? entry.translations : null;
+    }
+
+    /**
+     * Swaps the translations of a loaded locale for a new snapshot, unless they were
+     * replaced or removed meanwhile. Readers see either the old or the new map.
+     *
+     * @return {@code true} if the snapshot was published
+     */
+    boolean replace(final @NonNull Locale locale,
+                    final @NonNull Map<String, String> expected,
+                    final @NonNull Map<String, String> translations) {
+        final Entry entry = entries.get(locale);
+        if (entry == null) return false;
+
+        synchronized (entry) {
+            if (entry.translations != expected || entries.get(locale) != entry) return false;
+            entry.loaded(translations, weigh(translations), System.nanoTime());
+        }
+        if (policy.isBounded()) evict(locale);
+        return true;
+    }
+
+    @NonNull Set<Locale> locales() {
+        return entries.keySet();
+    }
+
+    void remove(final @NonNull Locale locale) {
+        final Entry entry = entries.get(locale);
+        if (entry != null) remove(locale, entry);
+    }
+
+    void clear() {
+        for (final Locale locale : entries.keySet()) remove(locale);
+    }
+
+    @NonNull CacheStats stats() {
+        return new CacheStats(hits.sum(), misses.sum(), loads.sum(), evictions.sum(),
+                entries.size(), weight());
+    }
+
+    private long weight() {
+        long weight = 0;
+        for (final Entry entry : entries.values()) weight += entry.weight;
+        return weight;
+    }
+
+    private boolean remove(final @NonNull Locale locale, final @NonNull Entry entry) {
+        if (!entries.remove(locale, entry)) return false;
+        removalListener.accept(locale);
+        return true;
+    }
+
+    private void expire(final @NonNull Locale loaded) {
+        final long now = System.nanoTime();
+        for (final Map.Entry<Locale, Entry> candidate : entries.entrySet()) {
+            final Entry entry = candidate.getValue();
+            if (entry.translations == null || candidate.getKey().equals(loaded)) continue;
+            if (!policy.isExpired(entry.loadedAt, entry.accessedAt, now)) continue;
+            if (remove(candidate.getKey(), entry)) evictions.increment();
+        }
+    }
+
+    private void evict(final @NonNull Locale loaded) {
+        while (entries.size() > policy.getMaximumLocales() || weight() > policy.getMaximumWeight()) {
+            Locale eldest = null;
+            Entry eldestEntry = null;
+
+            for (final Map.Entry<Locale, Entry> candidate : entries.entrySet()) {
+                final Entry entry = candidate.getValue();
+                if ((entry.translations == null && !entry.failed) || candidate.getKey().equals(loaded)) continue;
+                if (eldestEntry == null || entry.accessedAt - eldestEntry.accessedAt < 0) {
+                    eldest = candidate.getKey();
+                    eldestEntry = entry;
+                }
+            }
+
+            // note: never evict the requested locale or one still loading, even if that leaves us over the limit
+            if (eldest == null) return;
+            if (remove(eldest, eldestEntry)) evictions.increment();
+        }
+    }
+
+    static long weigh(final @NonNull Map<String, String> translations) {
+        if (translations instanceof LayeredTranslations layered) return layered.weight();
+        if (translations instanceof IndexedTranslations indexed) return indexed.weight();
+
+        long bytes = 64;
+        for (final Map.Entry<String, String> entry : translations.entrySet())
+            bytes += 96 + 2L * (entry.getKey().length() + entry.getValue().length());
+        return bytes;
+    }
+
+    private static final class Entry {
+        private final CompletableFuture<Map<String, String>> future = new CompletableFuture<>();
+        private volatile Map<String, String> translations;
+        private volatile long weight;
+        private volatile long loadedAt;
+        private volatile long accessedAt = System.nanoTime();
+        private volatile long failedAt;
+        private volatile boolean failed;
+
+        private void loaded(final @NonNull Map<String, String> translations,
+                            final long weight, final long loadedAt) {
+            this.weight = weight;
+            this.loadedAt = loadedAt;
+            this.accessedAt = loadedAt;
+            this.translations = translations;
+        }
+
+        private void failed(final long failedAt) {
+            this.failedAt = failedAt;
+            this.accessedAt = failedAt;
+            this.failed = true;
+        }
+    }
+}
@@ -0,0 +1,67 @@
+/**
+ * LECP-LICENSE NOTICE
+ * <br><br>
+ * This Sourcecode is under the LECP-LICENSE. <br>
+ * License at: <a href="https://github.com/leycm/leycm/blob/main/LICENSE">GITHUB</a>
+ * <br><br>
+ * Copyright (c) LeyCM <a href="mailto:leycm@proton.me">leycm@proton.me</a> l <br>
+ * Copyright (c) maintainers <br>
+ * Copyright (c) contributors
+ */
+package de.leycm.linguae;
+
+import de.leycm.linguae.mapping.MappingRule;
+import de.leycm.linguae.mapping.MessageTemplate;
+import lombok.NonNull;
+
+import java.util.Locale;
+import java.util.function.Function;
+
+/**
+ * The {@link BoundTranslation} of a {@link CommonLinguaeProvider}, which remembers the id
+ * of its key in the provider's {@link KeyDictionary}, so rendering it again skips hashing
+ * the key.
+ *
+ * <p>A handle belongs to one key and may be shared by any number of threads. It holds
+ * nothing specific to a locale: the id indexes the current translations of whichever
+ * locale is rendered, so reloads never leave it stale.</p>
+ *
+ * @see CommonLinguaeProvider#bind(String, Function)
+ * @since 1.3.0
+ * @author Lennard [leycm@proton.me]
+ */
+final class TranslationHandle implements BoundTranslation {
+
+    private final CommonLinguaeProvider provider;
+    private final String key;
+    private final Function<Locale, String> fallback;
+    // note: racy but safe, key ids are never reused and every thread resolves the same one
+    int id = -1;
+
+    TranslationHandle(final @NonNull CommonLinguaeProvider provider,
+                      final @NonNull String key,
+                      final @NonNull Function<Locale, String> fallback) {
+        this.provider = provider;
+        this.key = key;
+        this.fallback = fallback;
+    }
+
+    @NonNull String getKey() {
+        return key;
+    }
+
+    @NonNull Function<Locale, String> getFallback() {
+        return fallback;
+    }
+
+    @Override
+    public @NonNull String translate(final @NonNull Locale locale) {
+        return provider.translate(this, locale);
+    }
+
+    @Override
+    public @NonNull MessageTemplate template(final @NonNull Locale locale,
+                                             final @NonNull MappingRule rule) {
+        return provider.template(key, fallback, locale, rule);
+    }
+}
@@ -10,37 +10,72 @@
  */
 package de.leycm.linguae.label;
 
+import de.leycm.linguae.BoundTranslation;
 import de.leycm.linguae.Label;
 import de.leycm.linguae.LinguaeProvider;
+import de.leycm.linguae.mapping.MappingRule;
 import de.leycm.linguae.mapping.Mappings;
+import de.leycm.linguae.mapping.MessageTemplate;
 import lombok.NonNull;
 
 import java.util.Locale;
 import java.util.function.Function;
 
 
-public record LocaleLabel(
-        @NonNull LinguaeProvider provider,
-        @NonNull Mappings mappings,
-        @NonNull String key,
-        @NonNull Function<Locale, String> fallback
-        ) implements Label {
+public final class LocaleLabel implements Label {
 
-    public LocaleLabel { }
+    private final LinguaeProvider provider;
+    private final Mappings mappings;
+    private final String key;
+    private final Function<Locale, String> fallback;
+    // note: bound once, so the provider can keep per-key state for repeated renders
+    private final BoundTranslation translation;
+
+    public LocaleLabel(@NonNull LinguaeProvider provider, @NonNull Mappings mappings, @NonNull String key,
+                       @NonNull Function<Locale, String> fallback) {
+        this.provider = provider;
+        this.mappings = mappings;
+        this.key = key;
+        this.fallback = fallback;
+        this.translation = provider.bind(key, fallback);
+    }
 
     public LocaleLabel(@NonNull LinguaeProvider provider, @NonNull String key,
                        @NonNull Function<Locale, String> fallback) {
         this(provider, new Mappings(provider), key, fallback);
     }
 
+    @Override
+    public @NonNull LinguaeProvider provider() {
+        return provider;
+    }
+
+    @Override
+    public @NonNull Mappings mappings() {
+        return mappings;
+    }
+
+    public @NonNull String key() {
+        return key;
+    }
+
+    public @NonNull Function<Locale, String> fallback() {
+        return fallback;
+    }
+
     @Override
     public @NonNull String in(@NonNull Locale locale) {
-        return provider().translate(key(), fallback, locale);
+        return translation.translate(locale);
+    }
+
+    @Override
+    public @NonNull MessageTemplate template(@NonNull Locale locale, @NonNull MappingRule rule) {
+        return translation.template(locale, rule);
     }
 
     @Override
     public @NonNull String toString() {
-        return provider().serialize(this, String.class);
+        return provider.serialize(this, String.class);
     }
 
     @Override
@@ -48,12 +83,12 @@ public record LocaleLabel(
         if (this == obj) return true;
         if (obj == null || getClass() != obj.getClass()) return false;
         LocaleLabel that = (LocaleLabel) obj;
-        return key().equals(that.key());
+        return key.equals(that.key);
     }
 
     @Override
     public int hashCode() {
-        return key().hashCode();
+        return key.hashCode();
     }
 
 }
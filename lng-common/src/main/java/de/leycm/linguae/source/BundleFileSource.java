@@ -0,0 +1,123 @@
+/**
+ * LECP-LICENSE NOTICE
+ * <br><br>
+ * This Sourcecode is under the LECP-LICENSE. <br>
+ * License at: <a href="https://github.com/leycm/leycm/blob/main/LICENSE">GITHUB</a>
+ * <br><br>
+ * Copyright (c) LeyCM <a href="mailto:leycm@proton.me">leycm@proton.me</a> l <br>
+ * Copyright (c) maintainers <br>
+ * Copyright (c) contributors
+ */
+package de.leycm.linguae.source;
+
+import lombok.NonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * Serves translations from a compiled bundle file written by {@link BundleWriter}.
+ *
+ * <p>The bundle is memory-mapped, so its data lives in the page cache instead of the heap
+ * and loading a locale costs the same regardless of its size. Values are decoded from the
+ * mapping on their first lookup and kept in an on-heap array of one reference per entry,
+ * which the first lookup of a locale allocates. A bundle that was replaced on disk is mapped again on
+ * the next load, e.g. after {@code clearCache()}.</p>
+ *
+ * @since 1.3.0
+ * @author Lennard [leycm@proton.me]
+ */
+public class BundleFileSource implements LinguaeSource {
+
+    private final Path path;
+    private volatile Mapped mapped;
+
+    public BundleFileSource(@NonNull String path) {
+        this(Paths.get(path));
+    }
+
+    public BundleFileSource(@NonNull Path path) {
+        this.path = path;
+    }
+
+    @Override
+    public @NonNull List<Locale> getSupportedLanguages() {
+        try {
+            TranslationBundle bundle = bundle();
+            return bundle != null ? bundle.locales() : List.of();
+        } catch (IOException e) {return List.of();}
+    }
+
+    @Override
+    public @NonNull Map<String, String> loadLanguage(@NonNull Locale locale) throws Exception {
+        TranslationBundle bundle = bundle();
+        if (bundle == null) {
+            return Map.of();
+        }
+
+        Map<String, String> translations = bundle.translations(locale);
+        return translations != null ? translations : Map.of();
+    }
+
+    @Override
+    public @NonNull CompletableFuture<Map<String, String>> loadLanguageAsync(@NonNull Locale locale,
+                                                                           @NonNull Executor executor) {
+        // note: mapping is a few syscalls, handing it to the executor would cost more than it saves
+        try {
+            return CompletableFuture.completedFuture(loadLanguage(locale));
+        } catch (Exception e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    @Override
+    public @NonNull CompletableFuture<Void> loadLanguageAsync(@NonNull Locale locale,
+                                                              @NonNull Executor executor,
+                                                              @NonNull TranslationSink sink) {
+        return loadLanguageAsync(locale, executor).thenAccept(sink::acceptAll);
+    }
+
+    @Override
+    public boolean supportsLanguage(@NonNull Locale locale) {
+        try {
+            TranslationBundle bundle = bundle();
+            return bundle != null && bundle.contains(locale);
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    private TranslationBundle bundle() throws IOException {
+        FileTime modified;
+        try {
+            modified = Files.getLastModifiedTime(path);
+        } catch (NoSuchFileException e) {
+            return null;
+        }
+
+        Mapped current = mapped;
+        if (current != null && current.modified.equals(modified)) {
+            return current.bundle;
+        }
+
+        synchronized (this) {
+            current = mapped;
+            if (current == null || !current.modified.equals(modified)) {
+                current = new Mapped(TranslationBundle.open(path), modified);
+                mapped = current;
+            }
+            return current.bundle;
+        }
+    }
+
+    private record Mapped(TranslationBundle bundle, FileTime modified) {}
+}
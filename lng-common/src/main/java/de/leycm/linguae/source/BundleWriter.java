@@ -0,0 +1,268 @@
+/**
+ * LECP-LICENSE NOTICE
+ * <br><br>
+ * This Sourcecode is under the LECP-LICENSE. <br>
+ * License at: <a href="https://github.com/leycm/leycm/blob/main/LICENSE">GITHUB</a>
+ * <br><br>
+ * Copyright (c) LeyCM <a href="mailto:leycm@proton.me">leycm@proton.me</a> l <br>
+ * Copyright (c) maintainers <br>
+ * Copyright (c) contributors
+ */
+package de.leycm.linguae.source;
+
+import lombok.NonNull;
+import org.jetbrains.annotations.Contract;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Writes the translations of several locales into one bundle file for {@link BundleFileSource}.
+ *
+ * <p>The file is written to a unique temporary file next to its target and moved into
+ * place afterwards, so servers that have the previous bundle mapped never observe a
+ * partially written file.</p>
+ *
+ * @since 1.3.0
+ * @author Lennard [leycm@proton.me]
+ */
+public final class BundleWriter {
+
+    private static final int MAX_SEED = 1 << 16;
+
+    private final Map<Locale, Map<String, String>> locales = new LinkedHashMap<>();
+    private final int maxSeed;
+
+    public BundleWriter() {
+        this(MAX_SEED);
+    }
+
+    /**
+     * Creates a writer that tries at most {@code maxSeed} seeds per index bucket,
+     * so tests can force locales without an index.
+     */
+    BundleWriter(final int maxSeed) {
+        this.maxSeed = maxSeed;
+    }
+
+    /**
+     * Adds the translations of a locale, replacing any translations added before for it.
+     *
+     * @param locale the locale of the translations
+     * @param translations the translation keys and their localized strings
+     * @return this writer
+     * @throws NullPointerException if locale or translations is null
+     */
+    @Contract("_, _ -> this")
+    public @NonNull BundleWriter add(final @NonNull Locale locale,
+                                     final @NonNull Map<String, String> translations) {
+        locales.put(locale, Map.copyOf(translations));
+        return this;
+    }
+
+    /**
+     * Writes every added locale into a bundle file.
+     *
+     * @param target the bundle file to create or replace
+     * @throws IOException if the file cannot be written
+     * @throws NullPointerException if target is null
+     */
+    public void write(final @NonNull Path target) throws IOException {
+        final ByteBuffer bundle = encode();
+        final Path absolute = target.toAbsolutePath();
+        // note: a unique temp file per write, so concurrent writes into one directory never share it
+        final Path temp = Files.createTempFile(absolute.getParent(), absolute.getFileName() + ".", ".tmp");
+
+        try {
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE,
+                    StandardOpenOption.TRUNCATE_EXISTING)) {
+                while (bundle.hasRemaining()) channel.write(bundle);
+                channel.force(true);
+            }
+            Files.move(temp, absolute, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(temp);
+            throw e;
+        }
+    }
+
+    private @NonNull ByteBuffer encode() {
+        final Pool pool = new Pool();
+        final List<List<Map.Entry<String, String>>> sorted = new ArrayList<>(locales.size());
+        final List<int[]> indexes = new ArrayList<>(locales.size());
+        int entryCount = 0;
+        int indexSize = 0;
+
+        for (final Map<String, String> translations : locales.values()) {
+            final List<Map.Entry<String, String>> entries = new ArrayList<>(translations.entrySet());
+            entries.sort((a, b) -> compare(a.getKey(), b.getKey()));
+            sorted.add(entries);
+            entryCount += entries.size();
+
+            final int[] index = index(entries);
+            indexes.add(index);
+            if (index != null) indexSize += index.length * 4;
+        }
+
+        final int table = TranslationBundle.HEADER_SIZE;
+        final int entries = table + locales.size() * TranslationBundle.LOCALE_SIZE;
+        int indexOffset = entries + entryCount * TranslationBundle.ENTRY_SIZE;
+        final int poolOffset = indexOffset + indexSize;
+        final ByteBuffer head = ByteBuffer.allocate(poolOffset);
+
+        head.putInt(TranslationBundle.MAGIC)
+                .putShort(TranslationBundle.VERSION)
+                .putShort((short) 0)
+                .putInt(locales.size())
+                .putInt(table);
+
+        int record = table;
+        int entry = entries;
+        int i = 0;
+        for (final Locale locale : locales.keySet()) {
+            final List<Map.Entry<String, String>> translations = sorted.get(i);
+            final int[] index = indexes.get(i++);
+            final int tag = pool.add(locale.toLanguageTag());
+            head.putInt(record, tag).putInt(record + 4, pool.length(tag))
+                    .putInt(record + 8, translations.size()).putInt(record + 12, entry)
+                    .putInt(record + 16, index != null ? indexOffset : 0);
+            record += TranslationBundle.LOCALE_SIZE;
+
+            if (index != null) {
+                for (final int value : index) {
+                    head.putInt(indexOffset, value);
+                    indexOffset += 4;
+                }
+            }
+
+            for (final Map.Entry<String, String> translation : translations) {
+                final int key = pool.add(translation.getKey());
+                final int value = pool.add(translation.getValue());
+                head.putInt(entry, key).putInt(entry + 4, pool.length(key))
+                        .putInt(entry + 8, value).putInt(entry + 12, pool.length(value));
+                entry += TranslationBundle.ENTRY_SIZE;
+            }
+        }
+
+        head.putInt(16, poolOffset).putInt(20, pool.size());
+
+        final ByteBuffer bundle = ByteBuffer.allocate(poolOffset + pool.size());
+        bundle.put(head.array()).put(pool.bytes.toByteArray()).flip();
+        return bundle;
+    }
+
+    /**
+     * Builds a perfect hash over the sorted keys of a locale with hash-and-displace:
+     * keys are grouped into small buckets and each bucket gets a seed that sends all
+     * of its keys to free slots. Returns {@code null} if no seed is found in time,
+     * lookups then fall back to a binary search.
+     */
+    private int[] index(final @NonNull List<Map.Entry<String, String>> entries) {
+        final int size = entries.size();
+        if (size == 0) return null;
+
+        final int buckets = (size + 3) / 4;
+        final int slots = size + size / 4 + 1;
+        final long[] hashes = new long[size];
+        final List<List<Integer>> members = new ArrayList<>(buckets);
+        for (int b = 0; b < buckets; b++) members.add(new ArrayList<>(4));
+
+        for (int i = 0; i < size; i++) {
+            hashes[i] = TranslationBundle.hash(entries.get(i).getKey());
+            members.get(TranslationBundle.bucket(hashes[i], buckets)).add(i);
+        }
+
+        final Integer[] order = new Integer[buckets];
+        for (int b = 0; b < buckets; b++) order[b] = b;
+        Arrays.sort(order, (a, b) -> Integer.compare(members.get(b).size(), members.get(a).size()));
+
+        final int[] index = new int[2 + buckets + slots];
+        index[0] = buckets;
+        index[1] = slots;
+        Arrays.fill(index, 2 + buckets, index.length, -1);
+        final int[] taken = new int[members.get(order[0]).size()];
+
+        for (final int bucket : order) {
+            final List<Integer> keys = members.get(bucket);
+            if (keys.isEmpty()) break;
+
+            int seed = 0;
+            search:
+            for (; ; seed++) {
+                if (seed == maxSeed) return null;
+                for (int k = 0; k < keys.size(); k++) {
+                    final int slot = TranslationBundle.slot(hashes[keys.get(k)], seed, slots);
+                    if (index[2 + buckets + slot] != -1) continue search;
+                    for (int j = 0; j < k; j++) if (taken[j] == slot) continue search;
+                    taken[k] = slot;
+                }
+                break;
+            }
+
+            index[2 + bucket] = seed;
+            for (int k = 0; k < keys.size(); k++) index[2 + buckets + taken[k]] = keys.get(k);
+        }
+
+        return index;
+    }
+
+    /**
+     * Orders keys by code point, which matches the byte order of their UTF-8 form.
+     */
+    private static int compare(final @NonNull String a, final @NonNull String b) {
+        int i = 0;
+        int j = 0;
+        while (i < a.length() && j < b.length()) {
+            final int x = a.codePointAt(i);
+            final int y = b.codePointAt(j);
+            if (x != y) return Integer.compare(x, y);
+            i += Character.charCount(x);
+            j += Character.charCount(y);
+        }
+        return Integer.compare(a.length() - i, b.length() - j);
+    }
+
+    /**
+     * UTF-8 string pool storing every distinct string once, so keys repeated across
+     * locales and values shared by several keys take no extra space.
+     */
+    private static final class Pool {
+        private final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        private final Map<String, Integer> offsets = new HashMap<>();
+        private final Map<Integer, Integer> lengths = new HashMap<>();
+
+        private int add(final @NonNull String string) {
+            final Integer known = offsets.get(string);
+            if (known != null) return known;
+
+            final byte[] utf8 = string.getBytes(StandardCharsets.UTF_8);
+            final int offset = bytes.size();
+            bytes.writeBytes(utf8);
+            offsets.put(string, offset);
+            lengths.put(offset, utf8.length);
+            return offset;
+        }
+
+        private int length(final int offset) {
+            return lengths.get(offset);
+        }
+
+        private int size() {
+            return bytes.size();
+        }
+    }
+}
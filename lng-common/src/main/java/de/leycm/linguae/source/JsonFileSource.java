@@ -10,43 +10,150 @@
  */
 package de.leycm.linguae.source;
 
-import com.google.gson.Gson;
-import com.google.gson.reflect.TypeToken;
+import com.google.gson.Strictness;
+import com.google.gson.stream.JsonReader;
 import lombok.NonNull;
+import org.jetbrains.annotations.Nullable;
 
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
 import java.io.Reader;
-import java.lang.reflect.Type;
+import java.io.UncheckedIOException;
+import java.io.Writer;
 import java.net.URI;
 import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
+import java.nio.ByteBuffer;
+import java.nio.channels.AsynchronousFileChannel;
+import java.nio.channels.CompletionHandler;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.ClosedWatchServiceException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.zip.GZIPInputStream;
 
+/**
+ * Serves translations from {@code xx_YY.json} files in a directory or below an
+ * {@code http(s)://} base path.
+ *
+ * <p>A remote base path may publish an {@code index.json} manifest listing its locales:</p>
+ * <pre>
+ * {"locales": {"en-US": {"hash": "&lt;sha-256 hex of en_US.json&gt;", "size": 5120}}}
+ * </pre>
+ * <p>If present, supported locales are answered from the manifest instead of probing the
+ * origin, and with a cache directory a locale is only downloaded again once its hash changed.
+ * Without a manifest every locale is probed and loaded on its own. A missing manifest is
+ * only requested again after the {@code max-age} of its {@code Cache-Control} header, or
+ * after ten minutes if there is none.</p>
+ *
+ * <p>Files are parsed leniently, like {@code Gson#fromJson} parses them, so comments and
+ * unquoted or single-quoted names and values are accepted. A key that occurs more than once,
+ * also after flattening nested objects, keeps its last value.</p>
+ *
+ * <p>Local directories can be {@linkplain #watch(Consumer) watched} for edited files.</p>
+ */
 public class JsonFileSource implements LinguaeSource {
 
-    private static final Type MAP_TYPE = new TypeToken<Map<String, String>>(){}.getType();
+    // note: rough size of one "key": "value" line, only used to pre-size maps
+    private static final int AVERAGE_ENTRY_BYTES = 32;
+    // note: language files are repetitive text and usually inflate about fourfold
+    private static final int GZIP_RATIO = 4;
+    private static final Duration DEFAULT_TIMEOUT = Duration.ofSeconds(5);
+    private static final String MANIFEST = "index.json";
+    // note: one reload of every locale should revalidate the manifest once, not once per locale
+    private static final long MANIFEST_MAX_AGE = Duration.ofSeconds(5).toNanos();
+    // note: a base path without a manifest rarely gains one, so its absence is not asked for on every load
+    private static final long MISSING_MANIFEST_MAX_AGE = Duration.ofMinutes(10).toNanos();
+    // note: editors often write a file in several steps, changes are reported once it was quiet this long
+    private static final long DEBOUNCE_MILLIS = 250;
 
     private final String basePath;
-    private final Gson gson;
     private final HttpClient client;
     private final boolean remote;
+    private final Path cacheDirectory;
+    private final Duration timeout;
+    private final AtomicReference<CompletableFuture<Manifest>> manifest = new AtomicReference<>();
 
     public JsonFileSource(@NonNull String basePath) {
         this.basePath = basePath.endsWith("/") ? basePath : basePath + "/";
-        this.gson = new Gson();
         this.client = HttpClient.newHttpClient();
         this.remote = basePath.startsWith("http://") || basePath.startsWith("https://");
+        this.cacheDirectory = null;
+        this.timeout = null;
+    }
+
+    /**
+     * Creates a source for an {@code http(s)://} base path that keeps the downloaded files
+     * in a cache directory, waiting at most five seconds for the origin.
+     *
+     * @see #JsonFileSource(String, Path, Duration)
+     */
+    public JsonFileSource(@NonNull String basePath, @NonNull Path cacheDirectory) {
+        this(basePath, cacheDirectory, DEFAULT_TIMEOUT);
+    }
+
+    /**
+     * Creates a source for an {@code http(s)://} base path that keeps the downloaded files
+     * in a cache directory.
+     *
+     * <p>Every load revalidates the cached copy with {@code If-None-Match} and
+     * {@code If-Modified-Since}, so an unchanged file costs a single {@code 304} round trip.
+     * If the origin fails, or does not answer within the timeout, the cached copy is served
+     * instead. Local base paths ignore the cache directory.</p>
+     *
+     * @param basePath the URL or directory containing the language files
+     * @param cacheDirectory the directory to keep downloaded files in, created if missing
+     * @param timeout how long to wait for the origin before falling back to the cached copy
+     * @since 1.3.0
+     */
+    public JsonFileSource(@NonNull String basePath, @NonNull Path cacheDirectory, @NonNull Duration timeout) {
+        this.basePath = basePath.endsWith("/") ? basePath : basePath + "/";
+        this.client = HttpClient.newHttpClient();
+        this.remote = basePath.startsWith("http://") || basePath.startsWith("https://");
+        this.cacheDirectory = cacheDirectory;
+        this.timeout = timeout;
     }
 
     @Override
     public @NonNull List<Locale> getSupportedLanguages() {
-        if (remote) return List.of();
+        if (remote) {
+            Manifest manifest = manifest(false).join();
+            return manifest.listed() ? List.copyOf(manifest.locales().keySet()) : List.of();
+        }
 
         try {
             Path dir = Paths.get(basePath);
@@ -54,7 +161,7 @@ public class JsonFileSource implements LinguaeSource {
 
             try (var stream = Files.list(dir)) {
                 return stream
-                        .filter(p -> p.getFileName().toString().endsWith(".json"))
+                        .filter(p -> isLanguageFile(p.getFileName().toString()))
                         .map(p -> p.getFileName().toString().replace(".json", ""))
                         .map(name -> name.replace("_", "-"))
                         .map(Locale::forLanguageTag)
@@ -67,60 +174,626 @@ public class JsonFileSource implements LinguaeSource {
     @Override
     public @NonNull Map<String, String> loadLanguage(@NonNull Locale locale) throws Exception {
         String fileName = locale.toLanguageTag().replace("-", "_") + ".json";
+        MapSink sink = new MapSink();
 
         if (remote) {
-            return loadRemote(fileName);
+            loadRemote(locale, fileName, sink);
         } else {
-            return loadLocal(fileName);
+            loadLocal(fileName, sink);
         }
+        return sink.translations;
     }
 
-    private @NonNull Map<String, String> loadRemote(String fileName) throws Exception {
-        HttpRequest request = HttpRequest.newBuilder()
-                .uri(URI.create(basePath + fileName))
-                .GET()
-                .build();
+    @Override
+    public @NonNull CompletableFuture<Map<String, String>> loadLanguageAsync(@NonNull Locale locale,
+                                                                           @NonNull Executor executor) {
+        MapSink sink = new MapSink();
+        return loadLanguageAsync(locale, executor, sink).thenApply(v -> sink.translations);
+    }
 
-        HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+    @Override
+    public @NonNull CompletableFuture<Void> loadLanguageAsync(@NonNull Locale locale,
+                                                              @NonNull Executor executor,
+                                                              @NonNull TranslationSink sink) {
+        String fileName = locale.toLanguageTag().replace("-", "_") + ".json";
 
-        if (response.statusCode() != 200 || response.body() == null || response.body().isEmpty()) {
-            return Map.of();
+        if (remote) {
+            return loadRemoteAsync(locale, fileName, executor, sink);
+        } else {
+            return loadLocalAsync(fileName, executor, sink);
         }
+    }
 
-        Map<String, String> map = gson.fromJson(response.body(), MAP_TYPE);
-        return map != null ? map : Map.of();
+    private void loadRemote(Locale locale, String fileName, TranslationSink sink) throws Exception {
+        try {
+            loadRemoteAsync(locale, fileName, Runnable::run, sink).get();
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause() instanceof UncheckedIOException unchecked ? unchecked.getCause() : e.getCause();
+            throw cause instanceof Exception exception ? exception : e;
+        }
     }
 
-    private @NonNull Map<String, String> loadLocal(String fileName) throws Exception {
+    private void loadLocal(String fileName, TranslationSink sink) throws Exception {
         Path path = Paths.get(basePath + fileName);
 
         if (!Files.exists(path)) {
-            return Map.of();
+            return;
         }
 
+        sink.expect(hint(Files.size(path)));
         try (Reader reader = Files.newBufferedReader(path)) {
-            Map<String, String> map = gson.fromJson(reader, MAP_TYPE);
-            return map != null ? map : Map.of();
+            read(reader, sink);
+        }
+    }
+
+    private @NonNull CompletableFuture<Void> loadRemoteAsync(Locale locale, String fileName,
+                                                             Executor executor, TranslationSink sink) {
+        return manifest(true).thenCompose(manifest -> {
+            Listing listing = manifest.listed() ? manifest.locales().get(locale) : null;
+            if (manifest.listed() && listing == null) {
+                return CompletableFuture.completedFuture(null);
+            }
+
+            if (cacheDirectory == null) {
+                // note: the body is streamed into the parser on the executor instead of being buffered as one string
+                return client.sendAsync(get(fileName, null), HttpResponse.BodyHandlers.ofInputStream())
+                        .thenAcceptAsync(response -> {
+                            try {
+                                readResponse(response, listing, sink);
+                            } catch (IOException e) {
+                                throw new UncheckedIOException(e);
+                            }
+                        }, executor);
+            }
+
+            CachedDownload download;
+            try {
+                download = new CachedDownload(cacheDirectory, fileName, listing != null);
+                if (listing != null && download.matches(listing.hash())) {
+                    // note: the manifest vouches for the cached copy, no request needed
+                    return CompletableFuture.runAsync(() -> {
+                        try {
+                            readCached(download.file, listing, sink);
+                        } catch (IOException e) {
+                            throw new UncheckedIOException(e);
+                        }
+                    }, executor);
+                }
+                return client.sendAsync(get(fileName, download), HttpResponse.BodyHandlers.ofFile(download.part()))
+                        .<Void>handleAsync((response, error) -> {
+                            try {
+                                Path file = download.complete(response, unwrap(error));
+                                if (file != null) readCached(file, listing, sink);
+                                return null;
+                            } catch (IOException e) {
+                                throw new UncheckedIOException(e);
+                            }
+                        }, executor);
+            } catch (IOException e) {
+                return CompletableFuture.failedFuture(e);
+            }
+        });
+    }
+
+    private @NonNull CompletableFuture<Void> loadLocalAsync(String fileName, Executor executor, TranslationSink sink) {
+        Path path = Paths.get(basePath + fileName);
+
+        if (!Files.exists(path)) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        CompletableFuture<ByteBuffer> bytes = new CompletableFuture<>();
+        try {
+            AsynchronousFileChannel channel = AsynchronousFileChannel.open(path, StandardOpenOption.READ);
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE - 8) {
+                channel.close();
+                throw new IOException("Translation file too large: " + path);
+            }
+
+            ByteBuffer buffer = ByteBuffer.allocate((int) size);
+            channel.read(buffer, 0, buffer, new CompletionHandler<>() {
+                @Override
+                public void completed(Integer read, ByteBuffer buffer) {
+                    if (read >= 0 && buffer.hasRemaining()) {
+                        channel.read(buffer, buffer.position(), buffer, this);
+                        return;
+                    }
+                    close(channel);
+                    bytes.complete(buffer.flip());
+                }
+
+                @Override
+                public void failed(Throwable error, ByteBuffer buffer) {
+                    close(channel);
+                    bytes.completeExceptionally(error);
+                }
+            });
+        } catch (IOException e) {
+            bytes.completeExceptionally(e);
+        }
+
+        // note: the channel only does the I/O, decoding and parsing runs on the executor
+        return bytes.thenAcceptAsync(data -> {
+            sink.expect(hint(data.remaining()));
+            try (Reader reader = new InputStreamReader(
+                    new ByteArrayInputStream(data.array(), 0, data.limit()), StandardCharsets.UTF_8)) {
+                read(reader, sink);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }, executor);
+    }
+
+    private @NonNull HttpRequest.Builder request(String fileName) {
+        HttpRequest.Builder request = HttpRequest.newBuilder().uri(URI.create(basePath + fileName));
+        if (timeout != null) request.timeout(timeout);
+        return request;
+    }
+
+    private @NonNull HttpRequest get(String fileName, @Nullable CachedDownload download) {
+        // note: brotli has no decoder in the JDK, gzip already shrinks language files the most
+        HttpRequest.Builder request = request(fileName).header("Accept-Encoding", "gzip");
+        if (download != null) download.validate(request);
+        return request.GET().build();
+    }
+
+    private static void readResponse(HttpResponse<InputStream> response, @Nullable Listing listing,
+                                     TranslationSink sink) throws IOException {
+        try (InputStream body = response.body()) {
+            if (response.statusCode() != 200) {
+                return;
+            }
+
+            boolean gzip = response.headers().firstValue("Content-Encoding")
+                    .filter("gzip"::equalsIgnoreCase).isPresent();
+            if (listing != null && listing.size() >= 0) {
+                sink.expect(hint(listing.size()));
+            } else {
+                response.headers().firstValueAsLong("Content-Length")
+                        .ifPresent(length -> sink.expect(hint(gzip ? length * GZIP_RATIO : length)));
+            }
+            read(new InputStreamReader(gzip ? new GZIPInputStream(body) : body, StandardCharsets.UTF_8), sink);
+        }
+    }
+
+    private static void readCached(Path file, @Nullable Listing listing, TranslationSink sink) throws IOException {
+        try (InputStream body = new BufferedInputStream(Files.newInputStream(file))) {
+            boolean gzip = gzipped(body);
+            long size = listing != null && listing.size() >= 0 ? listing.size()
+                    : gzip ? Files.size(file) * GZIP_RATIO : Files.size(file);
+            sink.expect(hint(size));
+            read(new InputStreamReader(gzip ? new GZIPInputStream(body) : body, StandardCharsets.UTF_8), sink);
+        }
+    }
+
+    /**
+     * Checks for the gzip magic number, so a cached copy stays readable even if its metadata got lost.
+     */
+    private static boolean gzipped(InputStream body) throws IOException {
+        body.mark(2);
+        boolean gzip = body.read() == 0x1F && body.read() == 0x8B;
+        body.reset();
+        return gzip;
+    }
+
+    /**
+     * Hashes the decoded content of a cached copy the way manifests list it.
+     */
+    private static @NonNull String sha256(Path file) throws IOException {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+
+        try (InputStream body = new BufferedInputStream(Files.newInputStream(file))) {
+            (gzipped(body) ? new GZIPInputStream(body) : body)
+                    .transferTo(new DigestOutputStream(OutputStream.nullOutputStream(), digest));
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private static @Nullable Throwable unwrap(@Nullable Throwable error) {
+        return error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+    }
+
+    /**
+     * Returns the manifest, fetching it on first use. With {@code revalidate}, a manifest
+     * older than a few seconds is fetched again, so loads after a reload see new hashes.
+     * A missing manifest is kept much longer, see {@link #missingManifest(HttpResponse)}.
+     */
+    private @NonNull CompletableFuture<Manifest> manifest(boolean revalidate) {
+        while (true) {
+            CompletableFuture<Manifest> current = manifest.get();
+            if (current != null && (!revalidate || !current.isDone()
+                    || System.nanoTime() - current.join().expires() < 0)) {
+                return current;
+            }
+
+            CompletableFuture<Manifest> next = new CompletableFuture<>();
+            if (manifest.compareAndSet(current, next)) {
+                fetchManifest().whenComplete((fetched, error) ->
+                        next.complete(error == null ? fetched : missingManifest(null)));
+                return next;
+            }
+        }
+    }
+
+    private @NonNull CompletableFuture<Manifest> fetchManifest() {
+        if (cacheDirectory == null) {
+            return client.sendAsync(get(MANIFEST, null), HttpResponse.BodyHandlers.ofInputStream())
+                    .thenApply(response -> {
+                        try (InputStream body = response.body()) {
+                            if (response.statusCode() != 200) return missingManifest(response);
+                            boolean gzip = response.headers().firstValue("Content-Encoding")
+                                    .filter("gzip"::equalsIgnoreCase).isPresent();
+                            return readManifest(new InputStreamReader(gzip ? new GZIPInputStream(body) : body,
+                                    StandardCharsets.UTF_8));
+                        } catch (IOException e) {
+                            throw new UncheckedIOException(e);
+                        }
+                    });
+        }
+
+        try {
+            CachedDownload download = new CachedDownload(cacheDirectory, MANIFEST, false);
+            return client.sendAsync(get(MANIFEST, download), HttpResponse.BodyHandlers.ofFile(download.part()))
+                    .handle((response, error) -> {
+                        try {
+                            Path file = download.complete(response, unwrap(error));
+                            if (file == null) return missingManifest(response);
+                            try (InputStream body = new BufferedInputStream(Files.newInputStream(file))) {
+                                return readManifest(new InputStreamReader(gzipped(body) ? new GZIPInputStream(body) : body,
+                                        StandardCharsets.UTF_8));
+                            }
+                        } catch (IOException e) {
+                            throw new UncheckedIOException(e);
+                        }
+                    });
+        } catch (IOException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    /**
+     * Remembers that the base path has no manifest for the {@code max-age} of the response's
+     * {@code Cache-Control} header, or for {@link #MISSING_MANIFEST_MAX_AGE} without one.
+     */
+    private static @NonNull Manifest missingManifest(@Nullable HttpResponse<?> response) {
+        long maxAge = MISSING_MANIFEST_MAX_AGE;
+        if (response != null) {
+            for (String directive : response.headers().firstValue("Cache-Control").orElse("").split(",")) {
+                directive = directive.strip();
+                if (!directive.regionMatches(true, 0, "max-age=", 0, 8)) continue;
+                try {
+                    maxAge = TimeUnit.SECONDS.toNanos(Long.parseLong(directive.substring(8).strip()));
+                } catch (NumberFormatException ignored) {} // note: a malformed max-age counts as none
+            }
         }
+        return new Manifest(null, System.nanoTime() + maxAge);
     }
 
+    /**
+     * Reads a manifest of the form
+     * {@code {"locales": {"en-US": {"hash": "<sha-256 of the file>", "size": <bytes>}}}}.
+     */
+    private static @NonNull Manifest readManifest(Reader source) throws IOException {
+        JsonReader reader = new JsonReader(source);
+        reader.setStrictness(Strictness.LENIENT);
+        Map<Locale, Listing> locales = new HashMap<>();
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            if (!reader.nextName().equals("locales")) {
+                reader.skipValue();
+                continue;
+            }
+
+            reader.beginObject();
+            while (reader.hasNext()) {
+                Locale locale = Locale.forLanguageTag(reader.nextName().replace("_", "-"));
+                String hash = null;
+                long size = -1;
+
+                reader.beginObject();
+                while (reader.hasNext()) {
+                    switch (reader.nextName()) {
+                        case "hash" -> hash = reader.nextString();
+                        case "size" -> size = reader.nextLong();
+                        default -> reader.skipValue();
+                    }
+                }
+                reader.endObject();
+                locales.put(locale, new Listing(hash, size));
+            }
+            reader.endObject();
+        }
+        reader.endObject();
+
+        return new Manifest(Map.copyOf(locales), System.nanoTime() + MANIFEST_MAX_AGE);
+    }
+
+    /**
+     * Reads a JSON object entry by entry, so the file is never held as a map of its own.
+     *
+     * <p>Nested objects are flattened to dotted keys ({@code {"ui": {"greeting": "Hi"}}}
+     * becomes {@code ui.greeting}) and array elements get their index as key segment.
+     * All levels share one key buffer, so only the final keys are allocated.</p>
+     */
+    private static void read(Reader source, TranslationSink sink) throws IOException {
+        JsonReader reader = new JsonReader(source);
+        reader.setStrictness(Strictness.LENIENT);
+        try {
+            reader.peek();
+        } catch (EOFException e) {
+            return; // note: an empty file has no translations, like Gson#fromJson treats it
+        }
+
+        reader.beginObject();
+        readObject(reader, new StringBuilder(64), sink);
+        reader.endObject();
+    }
+
+    private static void readObject(JsonReader reader, StringBuilder key, TranslationSink sink) throws IOException {
+        int length = key.length();
+        while (reader.hasNext()) {
+            if (length != 0) key.append('.');
+            key.append(reader.nextName());
+            readValue(reader, key, sink);
+            key.setLength(length);
+        }
+    }
+
+    private static void readArray(JsonReader reader, StringBuilder key, TranslationSink sink) throws IOException {
+        int length = key.length();
+        for (int index = 0; reader.hasNext(); index++) {
+            key.append('.').append(index);
+            readValue(reader, key, sink);
+            key.setLength(length);
+        }
+    }
+
+    private static void readValue(JsonReader reader, StringBuilder key, TranslationSink sink) throws IOException {
+        switch (reader.peek()) {
+            case BEGIN_OBJECT -> {
+                reader.beginObject();
+                readObject(reader, key, sink);
+                reader.endObject();
+            }
+            case BEGIN_ARRAY -> {
+                reader.beginArray();
+                readArray(reader, key, sink);
+                reader.endArray();
+            }
+            case NULL -> reader.nextNull();
+            case BOOLEAN -> sink.accept(key.toString(), String.valueOf(reader.nextBoolean()));
+            default -> sink.accept(key.toString(), reader.nextString());
+        }
+    }
+
+    private static int hint(long bytes) {
+        return (int) Math.min(bytes / AVERAGE_ENTRY_BYTES, 1 << 24);
+    }
+
+    private static void close(AsynchronousFileChannel channel) {
+        try {
+            channel.close();
+        } catch (IOException ignored) {}
+    }
+
+    /**
+     * One conditional download into the cache directory. The body is written to a part file
+     * and only replaces the cached copy once the origin answered with a new version, so
+     * concurrent loads and crashes never leave a truncated copy behind.
+     */
+    private static final class CachedDownload {
+        private static final String ETAG = "etag";
+        private static final String LAST_MODIFIED = "last-modified";
+        private static final String SHA256 = "sha256";
+
+        private final Path directory;
+        private final Path file;
+        private final Path meta;
+        private final boolean hashed;
+        private final Properties validators = new Properties();
+        private Path part;
+
+        private CachedDownload(Path directory, String fileName, boolean hashed) throws IOException {
+            Files.createDirectories(directory);
+            this.directory = directory;
+            this.file = directory.resolve(fileName);
+            this.meta = directory.resolve(fileName + ".meta");
+            this.hashed = hashed;
+
+            if (Files.exists(file) && Files.exists(meta)) {
+                try (Reader reader = Files.newBufferedReader(meta, StandardCharsets.ISO_8859_1)) {
+                    validators.load(reader);
+                }
+            }
+        }
+
+        private boolean matches(@Nullable String hash) {
+            return hash != null && hash.equalsIgnoreCase(validators.getProperty(SHA256));
+        }
+
+        private @NonNull Path part() throws IOException {
+            if (part == null) part = Files.createTempFile(directory, file.getFileName().toString(), ".part");
+            return part;
+        }
+
+        private void validate(HttpRequest.Builder request) {
+            String etag = validators.getProperty(ETAG);
+            String lastModified = validators.getProperty(LAST_MODIFIED);
+            if (etag != null) request.header("If-None-Match", etag);
+            if (lastModified != null) request.header("If-Modified-Since", lastModified);
+        }
+
+        /**
+         * Settles the download and returns the file to read, or {@code null} if the origin
+         * has no such language file.
+         *
+         * @throws IOException if the origin could not be reached and nothing is cached
+         */
+        private @Nullable Path complete(@Nullable HttpResponse<Path> response, @Nullable Throwable error) throws IOException {
+            if (response == null || response.statusCode() >= 500) {
+                if (part != null) Files.deleteIfExists(part);
+                // note: the origin is down or too slow, the last good copy beats failing the load
+                if (Files.exists(file)) return file;
+                if (error instanceof IOException e) throw e;
+                if (error != null) throw new IOException(error);
+                return null;
+            }
+
+            switch (response.statusCode()) {
+                case 200 -> {
+                    Files.deleteIfExists(meta);
+                    Files.move(part, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                    store(response);
+                    return file;
+                }
+                case 304 -> {
+                    if (part != null) Files.deleteIfExists(part);
+                    return Files.exists(file) ? file : null;
+                }
+                case 404, 410 -> {
+                    if (part != null) Files.deleteIfExists(part);
+                    Files.deleteIfExists(meta);
+                    Files.deleteIfExists(file);
+                    return null;
+                }
+                default -> {
+                    if (part != null) Files.deleteIfExists(part);
+                    return null;
+                }
+            }
+        }
+
+        private void store(HttpResponse<Path> response) throws IOException {
+            Properties stored = new Properties();
+            response.headers().firstValue("ETag").ifPresent(etag -> stored.setProperty(ETAG, etag));
+            response.headers().firstValue("Last-Modified").ifPresent(date -> stored.setProperty(LAST_MODIFIED, date));
+            if (hashed) stored.setProperty(SHA256, sha256(file));
+            if (stored.isEmpty()) return;
+
+            Path temp = Files.createTempFile(directory, meta.getFileName().toString(), ".part");
+            try (Writer writer = Files.newBufferedWriter(temp, StandardCharsets.ISO_8859_1)) {
+                stored.store(writer, null);
+            }
+            Files.move(temp, meta, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        }
+    }
+
+    /**
+     * The locales listed by the manifest of a remote base path. Without a manifest,
+     * {@code locales} is {@code null} and every locale has to be probed.
+     */
+    private record Manifest(@Nullable Map<Locale, Listing> locales, long expires) {
+        private boolean listed() {
+            return locales != null;
+        }
+    }
+
+    private record Listing(@Nullable String hash, long size) {}
+
+    private static final class MapSink implements TranslationSink {
+        private Map<String, String> translations = new HashMap<>();
+
+        @Override
+        public void expect(int size) {
+            if (translations.isEmpty()) translations = HashMap.newHashMap(size);
+        }
+
+        @Override
+        public void accept(@NonNull String key, @NonNull String value) {
+            translations.put(key, value);
+        }
+    }
+
+    /**
+     * Watches a local base directory for created, modified and deleted language files.
+     * Remote base paths are not watched.
+     */
+    @Override
+    public @NonNull Closeable watch(@NonNull Consumer<Locale> listener) throws IOException {
+        if (remote) return LinguaeSource.super.watch(listener);
+
+        Path dir = Paths.get(basePath);
+        WatchService service = dir.getFileSystem().newWatchService();
+        try {
+            dir.register(service, StandardWatchEventKinds.ENTRY_CREATE,
+                    StandardWatchEventKinds.ENTRY_MODIFY, StandardWatchEventKinds.ENTRY_DELETE);
+        } catch (IOException e) {
+            service.close();
+            throw e;
+        }
+
+        Thread thread = new Thread(() -> watch(service, dir, listener), "linguae-json-watcher");
+        thread.setDaemon(true);
+        thread.start();
+        return service;
+    }
+
+    private static void watch(WatchService service, Path dir, Consumer<Locale> listener) {
+        Set<String> changed = new LinkedHashSet<>();
+
+        try {
+            while (true) {
+                WatchKey key = changed.isEmpty()
+                        ? service.take()
+                        : service.poll(DEBOUNCE_MILLIS, TimeUnit.MILLISECONDS);
+
+                if (key == null) {
+                    for (String name : changed) {
+                        try {
+                            listener.accept(Locale.forLanguageTag(name.substring(0, name.length() - 5).replace("_", "-")));
+                        } catch (RuntimeException ignored) {} // note: the listener reports its own failures
+                    }
+                    changed.clear();
+                    continue;
+                }
+
+                for (WatchEvent<?> event : key.pollEvents()) {
+                    if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                        // note: events were lost, so every file may have changed
+                        try (var stream = Files.list(dir)) {
+                            stream.map(p -> p.getFileName().toString()).filter(JsonFileSource::isLanguageFile).forEach(changed::add);
+                        } catch (IOException ignored) {}
+                    } else if (event.context() instanceof Path path && isLanguageFile(path.toString())) {
+                        changed.add(path.toString());
+                    }
+                }
+                key.reset();
+            }
+        } catch (InterruptedException | ClosedWatchServiceException ignored) {}
+    }
+
+    /**
+     * Checks whether a file of the base directory holds a locale, which excludes the manifest.
+     */
+    private static boolean isLanguageFile(final @NonNull String name) {
+        return name.endsWith(".json") && !name.equals(MANIFEST);
+    }
 
     @Override
     public boolean supportsLanguage(@NonNull Locale locale) {
         String fileName = locale.toLanguageTag().replace("-", "_") + ".json";
 
         if (remote) {
-            try {HttpRequest request = HttpRequest.newBuilder()
-                        .uri(URI.create(basePath + fileName))
+            Manifest manifest = manifest(false).join();
+            if (manifest.listed()) return manifest.locales().containsKey(locale);
+
+            try {HttpRequest request = request(fileName)
                         .method("HEAD", HttpRequest.BodyPublishers.noBody())
                         .build();
 
                 HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
 
-                return response.statusCode() == 200;
-            } catch (Exception e) {
-                return false;
-            }
+                if (response.statusCode() < 500) return response.statusCode() == 200;
+            } catch (Exception ignored) {}
+
+            return cacheDirectory != null && Files.exists(cacheDirectory.resolve(fileName));
         }
 
         Path path = Paths.get(basePath + fileName);
@@ -0,0 +1,176 @@
+/**
+ * LECP-LICENSE NOTICE
+ * <br><br>
+ * This Sourcecode is under the LECP-LICENSE. <br>
+ * License at: <a href="https://github.com/leycm/leycm/blob/main/LICENSE">GITHUB</a>
+ * <br><br>
+ * Copyright (c) LeyCM <a href="mailto:leycm@proton.me">leycm@proton.me</a> l <br>
+ * Copyright (c) maintainers <br>
+ * Copyright (c) contributors
+ */
+package de.leycm.linguae.source;
+
+import lombok.NonNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.JarURLConnection;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import java.util.stream.Stream;
+
+/**
+ * Serves translations from {@code xx_YY.properties} files, e.g. legacy resource bundles.
+ *
+ * <p>The base path is either a directory or, prefixed with {@code classpath:}, a resource
+ * directory on the class path, which also works inside shaded jars. Files are read as UTF-8
+ * and fall back to ISO-8859-1 like {@link java.util.PropertyResourceBundle} does.</p>
+ *
+ * <p>Files are scanned without {@link java.util.Properties}: entries are only located while
+ * loading and values are unescaped on their first lookup.</p>
+ *
+ * @since 1.3.0
+ * @author Lennard [leycm@proton.me]
+ */
+public class PropertiesFileSource implements LinguaeSource {
+
+    private static final String CLASSPATH = "classpath:";
+    private static final String EXTENSION = ".properties";
+
+    private final String basePath;
+    private final ClassLoader classLoader;
+    private final boolean classpath;
+
+    public PropertiesFileSource(@NonNull String basePath) {
+        this(basePath, PropertiesFileSource.class.getClassLoader());
+    }
+
+    public PropertiesFileSource(@NonNull String basePath, @NonNull ClassLoader classLoader) {
+        this.classpath = basePath.startsWith(CLASSPATH);
+        String path = classpath ? basePath.substring(CLASSPATH.length()) : basePath;
+        if (classpath && path.startsWith("/")) path = path.substring(1);
+        this.basePath = path.isEmpty() || path.endsWith("/") ? path : path + "/";
+        this.classLoader = classLoader;
+    }
+
+    @Override
+    public @NonNull List<Locale> getSupportedLanguages() {
+        Set<String> names = new LinkedHashSet<>();
+
+        try {
+            if (classpath) {
+                Enumeration<URL> roots = classLoader.getResources(basePath);
+                while (roots.hasMoreElements()) names.addAll(list(roots.nextElement()));
+            } else {
+                names.addAll(list(Paths.get(basePath)));
+            }
+        } catch (Exception e) {return List.of();}
+
+        List<Locale> locales = new ArrayList<>(names.size());
+        for (String name : names) {
+            if (name.endsWith(EXTENSION)) {
+                locales.add(Locale.forLanguageTag(name.substring(0, name.length() - EXTENSION.length()).replace("_", "-")));
+            }
+        }
+        return locales;
+    }
+
+    @Override
+    public @NonNull Map<String, String> loadLanguage(@NonNull Locale locale) throws Exception {
+        byte[] bytes = read(fileName(locale));
+        return bytes != null ? PropertiesTranslations.parse(decode(bytes)) : Map.of();
+    }
+
+    @Override
+    public @NonNull CompletableFuture<Void> loadLanguageAsync(@NonNull Locale locale,
+                                                              @NonNull Executor executor,
+                                                              @NonNull TranslationSink sink) {
+        // note: the parsed map is immutable and decodes lazily, so it is handed over instead of copied
+        return loadLanguageAsync(locale, executor).thenAccept(sink::acceptAll);
+    }
+
+    @Override
+    public boolean supportsLanguage(@NonNull Locale locale) {
+        if (classpath) {
+            return classLoader.getResource(basePath + fileName(locale)) != null;
+        }
+
+        return Files.exists(Paths.get(basePath + fileName(locale)));
+    }
+
+    private static @NonNull String fileName(@NonNull Locale locale) {
+        return locale.toLanguageTag().replace("-", "_") + EXTENSION;
+    }
+
+    private byte[] read(String fileName) throws IOException {
+        if (classpath) {
+            try (InputStream stream = classLoader.getResourceAsStream(basePath + fileName)) {
+                return stream != null ? stream.readAllBytes() : null;
+            }
+        }
+
+        Path path = Paths.get(basePath + fileName);
+        return Files.exists(path) ? Files.readAllBytes(path) : null;
+    }
+
+    private static @NonNull String decode(byte[] bytes) {
+        try {
+            return StandardCharsets.UTF_8.newDecoder()
+                    .onMalformedInput(CodingErrorAction.REPORT)
+                    .onUnmappableCharacter(CodingErrorAction.REPORT)
+                    .decode(ByteBuffer.wrap(bytes))
+                    .toString();
+        } catch (CharacterCodingException e) {
+            return new String(bytes, StandardCharsets.ISO_8859_1);
+        }
+    }
+
+    private static @NonNull List<String> list(Path dir) throws IOException {
+        if (!Files.isDirectory(dir)) return List.of();
+
+        try (Stream<Path> stream = Files.list(dir)) {
+            return stream.map(p -> p.getFileName().toString()).toList();
+        }
+    }
+
+    private @NonNull List<String> list(URL root) throws IOException, URISyntaxException {
+        if ("file".equals(root.getProtocol())) {
+            return list(Paths.get(root.toURI()));
+        }
+        if (!(root.openConnection() instanceof JarURLConnection connection)) {
+            return List.of();
+        }
+
+        // note: class path directories inside (shaded) jars can only be listed through their entries
+        connection.setUseCaches(false);
+        try (JarFile jar = connection.getJarFile()) {
+            List<String> names = new ArrayList<>();
+            Enumeration<JarEntry> entries = jar.entries();
+            while (entries.hasMoreElements()) {
+                String name = entries.nextElement().getName();
+                if (name.startsWith(basePath) && name.indexOf('/', basePath.length()) < 0) {
+                    names.add(name.substring(basePath.length()));
+                }
+            }
+            return names;
+        }
+    }
+}
@@ -0,0 +1,322 @@
+/**
+ * LECP-LICENSE NOTICE
+ * <br><br>
+ * This Sourcecode is under the LECP-LICENSE. <br>
+ * License at: <a href="https://github.com/leycm/leycm/blob/main/LICENSE">GITHUB</a>
+ * <br><br>
+ * Copyright (c) LeyCM <a href="mailto:leycm@proton.me">leycm@proton.me</a> l <br>
+ * Copyright (c) maintainers <br>
+ * Copyright (c) contributors
+ */
+package de.leycm.linguae.source;
+
+import lombok.NonNull;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * Translations of one {@code .properties} file, following the syntax of
+ * {@link java.util.Properties#load(java.io.Reader)}.
+ *
+ * <p>Parsing only locates the entries: keys are extracted right away, values are kept
+ * as ranges of the file text and only unescaped when they are first requested. Entries
+ * are held in flat arrays with an open-addressing table instead of a
+ * {@link java.util.Hashtable}, so no per-entry objects are created.</p>
+ *
+ * @since 1.3.0
+ * @author Lennard [leycm@proton.me]
+ */
+final class PropertiesTranslations extends AbstractMap<String, String> {
+
+    private final String text;
+    private String[] keys = new String[16];
+    // note: start and end of each raw value, negative start if it needs unescaping
+    private int[] ranges = new int[32];
+    private int[] table;
+    private String[] values;
+    private int size;
+
+    private PropertiesTranslations(final @NonNull String text) {
+        this.text = text;
+    }
+
+    /**
+     * Scans a properties file. Duplicate keys keep their last value, like {@code Properties}.
+     *
+     * @throws IllegalArgumentException if the text contains a malformed {@code \}{@code uXXXX} escape
+     */
+    static @NonNull PropertiesTranslations parse(final @NonNull String text) {
+        final PropertiesTranslations translations = new PropertiesTranslations(text);
+        final int length = text.length();
+        int i = 0;
+
+        while (i < length) {
+            // note: blank lines, comments and bare continuations before a key are skipped, like in Properties
+            char c = text.charAt(i);
+            if (isWhitespace(c) || c == '\n' || c == '\r') {
+                i++;
+                continue;
+            }
+            if (c == '#' || c == '!') {
+                while (i < length && text.charAt(i) != '\n' && text.charAt(i) != '\r') i++;
+                continue;
+            }
+            if (c == '\\' && isLineBreak(text, i + 1)) {
+                // note: Properties reads a bare backslash ending the file as an empty key
+                if (i + 2 >= length) translations.put("", 0, 0);
+                i = skipEscape(text, i);
+                continue;
+            }
+
+            final int keyStart = i;
+            boolean keyEscaped = false;
+            while (i < length) {
+                c = text.charAt(i);
+                if (c == '\\') {
+                    keyEscaped = true;
+                    i = skipEscape(text, i);
+                    continue;
+                }
+                if (c == '=' || c == ':' || isWhitespace(c) || c == '\n' || c == '\r') break;
+                i++;
+            }
+            final int keyEnd = i;
+
+            i = skipBlank(text, i);
+            if (i < length && (text.charAt(i) == '=' || text.charAt(i) == ':')) i++;
+            i = skipBlank(text, i);
+
+            final int valueStart = i;
+            boolean valueEscaped = false;
+            while (i < length) {
+                c = text.charAt(i);
+                if (c == '\\') {
+                    valueEscaped = true;
+                    i = skipEscape(text, i);
+                    continue;
+                }
+                if (c == '\n' || c == '\r') break;
+                i++;
+            }
+            final int valueEnd = i;
+
+            final String key = keyEscaped
+                    ? unescape(text, keyStart, keyEnd)
+                    : text.substring(keyStart, keyEnd);
+            translations.put(key, valueEscaped ? -valueStart - 1 : valueStart, valueEnd);
+        }
+
+        translations.values = new String[translations.size];
+        return translations;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean containsKey(final Object key) {
+        return key instanceof String string && indexOf(string) >= 0;
+    }
+
+    @Override
+    public String get(final Object key) {
+        if (!(key instanceof String string)) return null;
+        final int index = indexOf(string);
+        return index >= 0 ? value(index) : null;
+    }
+
+    @Override
+    public @NonNull Set<Entry<String, String>> entrySet() {
+        return new AbstractSet<>() {
+            @Override
+            public int size() {
+                return size;
+            }
+
+            @Override
+            public @NonNull Iterator<Entry<String, String>> iterator() {
+                return new Iterator<>() {
+                    private int index;
+
+                    @Override
+                    public boolean hasNext() {
+                        return index < size;
+                    }
+
+                    @Override
+                    public Entry<String, String> next() {
+                        if (index >= size) throw new NoSuchElementException();
+                        final String key = keys[index];
+                        return new SimpleImmutableEntry<>(key, value(index++));
+                    }
+                };
+            }
+        };
+    }
+
+    private @NonNull String value(final int index) {
+        final String cached = values[index];
+        if (cached != null) return cached;
+
+        final int start = ranges[index << 1];
+        final int end = ranges[(index << 1) + 1];
+        // note: racy but safe, strings are immutable and unescaping is idempotent
+        final String value = start < 0 ? unescape(text, -start - 1, end) : text.substring(start, end);
+        values[index] = value;
+        return value;
+    }
+
+    private int indexOf(final @NonNull String key) {
+        if (table == null) return -1;
+        final int mask = table.length - 1;
+        for (int slot = spread(key.hashCode()) & mask; ; slot = (slot + 1) & mask) {
+            final int index = table[slot] - 1;
+            if (index < 0) return -1;
+            if (keys[index].equals(key)) return index;
+        }
+    }
+
+    private void put(final @NonNull String key, final int start, final int end) {
+        final int existing = indexOf(key);
+        if (existing >= 0) {
+            ranges[existing << 1] = start;
+            ranges[(existing << 1) + 1] = end;
+            return;
+        }
+
+        if (size == keys.length) {
+            keys = Arrays.copyOf(keys, size << 1);
+            ranges = Arrays.copyOf(ranges, size << 2);
+        }
+        keys[size] = key;
+        ranges[size << 1] = start;
+        ranges[(size << 1) + 1] = end;
+        size++;
+
+        if (table == null || size * 2 > table.length) rehash();
+        else insert(size - 1);
+    }
+
+    private void rehash() {
+        table = new int[Integer.highestOneBit(Math.max(size, 8) * 2) << 1];
+        for (int index = 0; index < size; index++) insert(index);
+    }
+
+    private void insert(final int index) {
+        final int mask = table.length - 1;
+        int slot = spread(keys[index].hashCode()) & mask;
+        while (table[slot] != 0) slot = (slot + 1) & mask;
+        table[slot] = index + 1;
+    }
+
+    private static int spread(final int hash) {
+        return hash ^ (hash >>> 16);
+    }
+
+    private static boolean isWhitespace(final char c) {
+        return c == ' ' || c == '\t' || c == '\f';
+    }
+
+    /**
+     * Returns the offset after the escape starting at {@code i}, treating an escaped
+     * {@code \r\n} as one line break. Unicode escapes are validated here, so a malformed
+     * file fails while loading rather than on a later lookup.
+     */
+    private static int skipEscape(final @NonNull String text, final int i) {
+        final int length = text.length();
+        if (i + 1 >= length) return length;
+
+        final char c = text.charAt(i + 1);
+        if (c == 'u') return hexEnd(text, i + 2, length);
+        if (c != '\r' && c != '\n') return i + 2;
+
+        // note: a continuation also swallows the leading whitespace of the next line
+        int next = i + 2;
+        if (c == '\r' && next < length && text.charAt(next) == '\n') next++;
+        while (next < length && isWhitespace(text.charAt(next))) next++;
+        return next;
+    }
+
+    /**
+     * Skips whitespace within a logical line, including line continuations.
+     */
+    private static int skipBlank(final @NonNull String text, int i) {
+        while (i < text.length()) {
+            final char c = text.charAt(i);
+            if (isWhitespace(c)) i++;
+            else if (c == '\\' && isLineBreak(text, i + 1)) i = skipEscape(text, i);
+            else break;
+        }
+        return i;
+    }
+
+    /**
+     * Returns the offset after the four digits of a unicode escape. Like in Properties,
+     * the digits may be split by line continuations.
+     *
+     * @throws IllegalArgumentException if the escape is malformed
+     */
+    private static int hexEnd(final @NonNull String text, int i, final int end) {
+        for (int j = 0; j < 4; j++) {
+            i = skipContinuations(text, i, end);
+            if (i >= end || Character.digit(text.charAt(i), 16) < 0)
+                throw new IllegalArgumentException("Malformed \\uxxxx encoding.");
+            i++;
+        }
+        return i;
+    }
+
+    private static int skipContinuations(final @NonNull String text, int i, final int end) {
+        while (i < end && text.charAt(i) == '\\' && isLineBreak(text, i + 1)) i = Math.min(skipEscape(text, i), end);
+        return i;
+    }
+
+    private static boolean isLineBreak(final @NonNull String text, final int i) {
+        return i >= text.length() || text.charAt(i) == '\r' || text.charAt(i) == '\n';
+    }
+
+    private static @NonNull String unescape(final @NonNull String text, final int start, final int end) {
+        final StringBuilder builder = new StringBuilder(end - start);
+        int i = start;
+
+        while (i < end) {
+            char c = text.charAt(i++);
+            if (c != '\\') {
+                builder.append(c);
+                continue;
+            }
+            if (i >= end) break;
+
+            c = text.charAt(i++);
+            switch (c) {
+                case 't' -> builder.append('\t');
+                case 'n' -> builder.append('\n');
+                case 'r' -> builder.append('\r');
+                case 'f' -> builder.append('\f');
+                case 'u' -> {
+                    int value = 0;
+                    for (int j = 0; j < 4; j++) {
+                        i = skipContinuations(text, i, end);
+                        value = (value << 4) | Character.digit(text.charAt(i++), 16);
+                    }
+                    builder.append((char) value);
+                }
+                case '\r', '\n' -> {
+                    // note: line continuation, leading whitespace of the next line is dropped
+                    if (c == '\r' && i < end && text.charAt(i) == '\n') i++;
+                    while (i < end && isWhitespace(text.charAt(i))) i++;
+                }
+                default -> builder.append(c);
+            }
+        }
+
+        return builder.toString();
+    }
+}
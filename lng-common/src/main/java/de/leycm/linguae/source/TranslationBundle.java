@@ -0,0 +1,296 @@
+/**
+ * LECP-LICENSE NOTICE
+ * <br><br>
+ * This Sourcecode is under the LECP-LICENSE. <br>
+ * License at: <a href="https://github.com/leycm/leycm/blob/main/LICENSE">GITHUB</a>
+ * <br><br>
+ * Copyright (c) LeyCM <a href="mailto:leycm@proton.me">leycm@proton.me</a> l <br>
+ * Copyright (c) maintainers <br>
+ * Copyright (c) contributors
+ */
+package de.leycm.linguae.source;
+
+import lombok.NonNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Read-only view of a compiled translation bundle.
+ *
+ * <p>A bundle holds the translations of several locales in one file. All integers
+ * are big-endian, all offsets are absolute unless noted otherwise:</p>
+ * <pre>
+ * header       int magic "LNGB", short version, short flags,
+ *              int localeCount, int localeTableOffset, int poolOffset, int poolLength,
+ *              8 reserved bytes
+ * locale table per locale: int tagOffset, int tagLength, int entryCount,
+ *              int entriesOffset, int indexOffset (0 if none)
+ * entries      per locale, sorted by key in code point order:
+ *              int keyOffset, int keyLength, int valueOffset, int valueLength
+ * index        per locale, optional: int bucketCount, int slotCount,
+ *              int seed per bucket, int entry per slot (-1 if empty)
+ * pool         UTF-8 bytes of every distinct tag, key and value
+ * </pre>
+ *
+ * <p>Tag, key and value offsets are relative to the pool. Opening a bundle only reads
+ * its locale table; keys are compared against the buffer in place and values are
+ * decoded on their first lookup. Decoded values are kept on the heap in an array of
+ * one reference per entry, which is only allocated by the first lookup of a locale
+ * and shared by every later load of it, so loading a locale allocates nothing.</p>
+ *
+ * <p>The index is a perfect hash: a key's bucket seed leads to the only slot it can
+ * occupy, so a lookup hashes the key once and compares at most one entry. Locales
+ * without an index are binary searched.</p>
+ *
+ * @see BundleWriter
+ * @since 1.3.0
+ * @author Lennard [leycm@proton.me]
+ */
+final class TranslationBundle {
+
+    static final int MAGIC = 0x4C4E4742;
+    static final short VERSION = 1;
+    static final int HEADER_SIZE = 32;
+    static final int LOCALE_SIZE = 20;
+    static final int ENTRY_SIZE = 16;
+
+    private final ByteBuffer buffer;
+    private final int pool;
+    private final Map<Locale, Integer> locales;
+    private final Map<Locale, Translations> views = new ConcurrentHashMap<>();
+
+    TranslationBundle(final @NonNull ByteBuffer buffer) throws IOException {
+        if (buffer.capacity() < HEADER_SIZE || buffer.getInt(0) != MAGIC)
+            throw new IOException("Not a translation bundle");
+        if (buffer.getShort(4) != VERSION)
+            throw new IOException("Unsupported translation bundle version: " + buffer.getShort(4));
+
+        final int count = buffer.getInt(8);
+        final int table = buffer.getInt(12);
+        this.buffer = buffer;
+        this.pool = buffer.getInt(16);
+        if (pool < 0 || (long) pool + buffer.getInt(20) > buffer.capacity())
+            throw new IOException("Truncated translation bundle");
+
+        final Map<Locale, Integer> locales = new LinkedHashMap<>(count * 2);
+        for (int i = 0; i < count; i++) {
+            final int record = table + i * LOCALE_SIZE;
+            locales.put(Locale.forLanguageTag(string(buffer.getInt(record), buffer.getInt(record + 4))), record);
+        }
+        this.locales = Collections.unmodifiableMap(locales);
+    }
+
+    /**
+     * Hashes a key over its UTF-16 chars, so lookups never have to encode it.
+     */
+    static long hash(final @NonNull String key) {
+        long hash = 0xCBF29CE484222325L;
+        for (int i = 0; i < key.length(); i++) hash = (hash ^ key.charAt(i)) * 0x100000001B3L;
+        return mix(hash);
+    }
+
+    static int bucket(final long hash, final int buckets) {
+        return (int) ((hash >>> 32) % buckets);
+    }
+
+    static int slot(final long hash, final int seed, final int slots) {
+        return (int) ((mix(hash + seed * 0x9E3779B97F4A7C15L) >>> 1) % slots);
+    }
+
+    private static long mix(long z) {
+        z = (z ^ (z >>> 33)) * 0xFF51AFD7ED558CCDL;
+        z = (z ^ (z >>> 33)) * 0xC4CEB9FE1A85EC53L;
+        return z ^ (z >>> 33);
+    }
+
+    /**
+     * Maps a bundle file into memory. The file can be closed or replaced afterwards,
+     * the mapping stays valid until it is garbage collected.
+     */
+    static @NonNull TranslationBundle open(final @NonNull Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            return new TranslationBundle(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        }
+    }
+
+    @NonNull List<Locale> locales() {
+        return List.copyOf(locales.keySet());
+    }
+
+    boolean contains(final @NonNull Locale locale) {
+        return locales.containsKey(locale);
+    }
+
+    /**
+     * Returns a lazy view of the translations of a locale, or {@code null} if the bundle has none.
+     */
+    @Nullable Map<String, String> translations(final @NonNull Locale locale) {
+        final Integer record = locales.get(locale);
+        if (record == null) return null;
+        return views.computeIfAbsent(locale, l -> new Translations(buffer.getInt(record + 8),
+                buffer.getInt(record + 12), buffer.getInt(record + 16)));
+    }
+
+    private @NonNull String string(final int offset, final int length) {
+        final byte[] bytes = new byte[length];
+        buffer.get(pool + offset, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Compares {@code key} with a UTF-8 string of the pool in code point order, without decoding it.
+     */
+    private int compare(final @NonNull String key, final int offset, final int length) {
+        int i = 0;
+        int p = pool + offset;
+        final int end = p + length;
+
+        while (i < key.length() && p < end) {
+            final int a = key.codePointAt(i);
+            i += Character.charCount(a);
+
+            final int b0 = buffer.get(p);
+            final int b;
+            if (b0 >= 0) {
+                b = b0;
+                p += 1;
+            } else if ((b0 & 0xE0) == 0xC0) {
+                b = (b0 & 0x1F) << 6 | buffer.get(p + 1) & 0x3F;
+                p += 2;
+            } else if ((b0 & 0xF0) == 0xE0) {
+                b = (b0 & 0x0F) << 12 | (buffer.get(p + 1) & 0x3F) << 6 | buffer.get(p + 2) & 0x3F;
+                p += 3;
+            } else {
+                b = (b0 & 0x07) << 18 | (buffer.get(p + 1) & 0x3F) << 12
+                        | (buffer.get(p + 2) & 0x3F) << 6 | buffer.get(p + 3) & 0x3F;
+                p += 4;
+            }
+
+            if (a != b) return Integer.compare(a, b);
+        }
+
+        if (i < key.length()) return 1;
+        return p < end ? -1 : 0;
+    }
+
+    /**
+     * Translations of one locale, backed by the mapped buffer. Decoded values are kept,
+     * so repeated lookups of a key allocate nothing.
+     */
+    private final class Translations extends AbstractMap<String, String> {
+        private final int size;
+        private final int entries;
+        private final int index;
+        // note: racy but safe, strings are immutable and decoding is idempotent
+        private String[] values;
+
+        private Translations(final int size, final int entries, final int index) {
+            this.size = size;
+            this.entries = entries;
+            this.index = index;
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public boolean containsKey(final Object key) {
+            return key instanceof String string && indexOf(string) >= 0;
+        }
+
+        @Override
+        public String get(final Object key) {
+            if (!(key instanceof String string)) return null;
+            final int index = indexOf(string);
+            return index >= 0 ? value(index) : null;
+        }
+
+        @Override
+        public @NonNull Set<Entry<String, String>> entrySet() {
+            return new AbstractSet<>() {
+                @Override
+                public int size() {
+                    return size;
+                }
+
+                @Override
+                public @NonNull Iterator<Entry<String, String>> iterator() {
+                    return new Iterator<>() {
+                        private int index;
+
+                        @Override
+                        public boolean hasNext() {
+                            return index < size;
+                        }
+
+                        @Override
+                        public Entry<String, String> next() {
+                            if (index >= size) throw new NoSuchElementException();
+                            final int entry = entries + index * ENTRY_SIZE;
+                            final String key = string(buffer.getInt(entry), buffer.getInt(entry + 4));
+                            return new SimpleImmutableEntry<>(key, value(index++));
+                        }
+                    };
+                }
+            };
+        }
+
+        private int indexOf(final @NonNull String key) {
+            if (index != 0) {
+                final long hash = hash(key);
+                final int buckets = buffer.getInt(index);
+                final int seed = buffer.getInt(index + 8 + 4 * bucket(hash, buckets));
+                final int found = buffer.getInt(index + 8 + 4 * buckets + 4 * slot(hash, seed, buffer.getInt(index + 4)));
+                if (found < 0) return -1;
+
+                final int entry = entries + found * ENTRY_SIZE;
+                return compare(key, buffer.getInt(entry), buffer.getInt(entry + 4)) == 0 ? found : -1;
+            }
+
+            int low = 0;
+            int high = size - 1;
+
+            while (low <= high) {
+                final int mid = (low + high) >>> 1;
+                final int entry = entries + mid * ENTRY_SIZE;
+                final int comparison = compare(key, buffer.getInt(entry), buffer.getInt(entry + 4));
+                if (comparison == 0) return mid;
+                if (comparison < 0) high = mid - 1;
+                else low = mid + 1;
+            }
+            return -1;
+        }
+
+        private @NonNull String value(final int index) {
+            String[] values = this.values;
+            // note: a racing lookup may allocate a second array, which only loses some cached values
+            if (values == null) this.values = values = new String[size];
+            final String cached = values[index];
+            if (cached != null) return cached;
+
+            final int entry = entries + index * ENTRY_SIZE;
+            final String value = string(buffer.getInt(entry + 8), buffer.getInt(entry + 12));
+            values[index] = value;
+            return value;
+        }
+    }
+}
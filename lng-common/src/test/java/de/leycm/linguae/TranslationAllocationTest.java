@@ -0,0 +1,107 @@
+/**
+ * LECP-LICENSE NOTICE
+ * <br><br>
+ * This Sourcecode is under the LECP-LICENSE. <br>
+ * License at: <a href="https://github.com/leycm/leycm/blob/main/LICENSE">GITHUB</a>
+ * <br><br>
+ * Copyright (c) LeyCM <a href="mailto:leycm@proton.me">leycm@proton.me</a> l <br>
+ * Copyright (c) maintainers <br>
+ * Copyright (c) contributors
+ */
+package de.leycm.linguae;
+
+import de.leycm.linguae.mapping.MappingRule;
+import de.leycm.linguae.source.LinguaeSource;
+import lombok.NonNull;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.IntUnaryOperator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Checks that rendering loaded translations allocates nothing, measured with the
+ * allocation counter of the current thread.
+ */
+class TranslationAllocationTest {
+
+    private static final List<Locale> LOCALES = List.of(Locale.US, Locale.GERMANY, Locale.FRANCE);
+    private static final int KEYS = 1_000;
+    private static final int WARMUP = 200_000;
+    private static final int RENDERS = 100_000;
+
+    @Test
+    void translateDoesNotAllocateOnCacheHits() {
+        final CommonLinguaeProvider provider = provider();
+        final Function<Locale, String> fallback = provider.createFallback("k5");
+
+        assertEquals("de_DE:v5", provider.translate("k5", fallback, Locale.GERMANY));
+        assertAllocationFree(i -> provider.translate("k5", fallback, LOCALES.get(i % 3)).length());
+    }
+
+    @Test
+    void labelsDoNotAllocateAcrossLocales() {
+        final CommonLinguaeProvider provider = provider();
+        final Label label = provider.createLabel("k5", provider.createFallback("k5"));
+
+        assertEquals("fr_FR:v5", label.in(Locale.FRANCE));
+        assertAllocationFree(i -> label.in(LOCALES.get(i % 3)).length());
+    }
+
+    @Test
+    void templatesDoNotAllocateOnCacheHits() {
+        final CommonLinguaeProvider provider = provider();
+        final Label label = provider.createLabel("k5", provider.createFallback("k5"));
+
+        assertAllocationFree(i -> label.template(LOCALES.get(i % 3), MappingRule.FSTRING).hashCode());
+    }
+
+    private static void assertAllocationFree(final @NonNull IntUnaryOperator render) {
+        final java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        assumeTrue(bean instanceof com.sun.management.ThreadMXBean mx && mx.isThreadAllocatedMemorySupported(),
+                "thread allocation counters are not supported");
+        final com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) bean;
+
+        long sink = 0;
+        for (int i = 0; i < WARMUP; i++) sink += render.applyAsInt(i);
+
+        final long before = threads.getCurrentThreadAllocatedBytes();
+        for (int i = 0; i < RENDERS; i++) sink += render.applyAsInt(i);
+        final long allocated = threads.getCurrentThreadAllocatedBytes() - before;
+
+        // note: below one byte per render, the smallest object alone takes 16
+        assertTrue(allocated < RENDERS, () -> allocated + " bytes allocated by " + RENDERS + " renders");
+        assertTrue(sink > 0);
+    }
+
+    private static @NonNull CommonLinguaeProvider provider() {
+        final CommonLinguaeProvider provider = CommonLinguaeProvider.builder().build(new LinguaeSource() {
+            @Override
+            public @NonNull List<Locale> getSupportedLanguages() {
+                return LOCALES;
+            }
+
+            @Override
+            public boolean supportsLanguage(final @NonNull Locale locale) {
+                return LOCALES.contains(locale);
+            }
+
+            @Override
+            public @NonNull Map<String, String> loadLanguage(final @NonNull Locale locale) {
+                final Map<String, String> translations = new HashMap<>();
+                for (int i = 0; i < KEYS; i++) translations.put("k" + i, locale + ":v" + i);
+                return translations;
+            }
+        });
+        provider.preloadAll().join();
+        return provider;
+    }
+}
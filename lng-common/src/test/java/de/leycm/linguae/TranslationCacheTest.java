@@ -0,0 +1,126 @@
+/**
+ * LECP-LICENSE NOTICE
+ * <br><br>
+ * This Sourcecode is under the LECP-LICENSE. <br>
+ * License at: <a href="https://github.com/leycm/leycm/blob/main/LICENSE">GITHUB</a>
+ * <br><br>
+ * Copyright (c) LeyCM <a href="mailto:leycm@proton.me">leycm@proton.me</a> l <br>
+ * Copyright (c) maintainers <br>
+ * Copyright (c) contributors
+ */
+package de.leycm.linguae;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * Checks that {@link TranslationCache} enforces the size limits and expiry of its {@link CachePolicy}.
+ */
+class TranslationCacheTest {
+
+    private final List<Locale> removed = new ArrayList<>();
+
+    @Test
+    void evictsTheLeastRecentlyUsedLocale() throws InterruptedException {
+        final TranslationCache cache = cache(CachePolicy.builder().maximumLocales(2).build());
+        load(cache, Locale.US);
+        load(cache, Locale.GERMANY);
+        Thread.sleep(2);
+        assertNotNull(cache.get(Locale.US));
+
+        load(cache, Locale.FRANCE);
+
+        assertEquals(List.of(Locale.GERMANY), removed);
+        assertNull(cache.get(Locale.GERMANY));
+        assertNotNull(cache.get(Locale.US));
+        assertNotNull(cache.get(Locale.FRANCE));
+        assertEquals(1, cache.stats().evictionCount());
+        assertEquals(2, cache.stats().localeCount());
+    }
+
+    @Test
+    void evictsByWeight() {
+        final long weight = TranslationCache.weigh(translations(Locale.US));
+        final TranslationCache cache = cache(CachePolicy.builder().maximumWeight(2 * weight + weight / 2).build());
+        load(cache, Locale.US);
+        load(cache, Locale.GERMANY);
+        load(cache, Locale.FRANCE);
+
+        assertEquals(List.of(Locale.US), removed);
+        assertEquals(2, cache.stats().localeCount());
+    }
+
+    @Test
+    void neverEvictsTheLocaleJustLoaded() {
+        final TranslationCache cache = cache(CachePolicy.builder().maximumWeight(1).build());
+        load(cache, Locale.US);
+        assertNotNull(cache.get(Locale.US));
+
+        load(cache, Locale.GERMANY);
+        assertEquals(List.of(Locale.US), removed);
+        assertNotNull(cache.get(Locale.GERMANY));
+    }
+
+    @Test
+    void expiresAfterWrite() throws InterruptedException {
+        final TranslationCache cache = cache(CachePolicy.builder().expireAfterWrite(Duration.ofMillis(100)).build());
+        load(cache, Locale.US);
+        assertNotNull(cache.get(Locale.US));
+
+        Thread.sleep(150);
+        assertNull(cache.get(Locale.US));
+        assertEquals(List.of(Locale.US), removed);
+        assertEquals(1, cache.stats().evictionCount());
+    }
+
+    @Test
+    void expiresAfterAccess() throws InterruptedException {
+        final TranslationCache cache = cache(CachePolicy.builder().expireAfterAccess(Duration.ofMillis(500)).build());
+        load(cache, Locale.US);
+        load(cache, Locale.GERMANY);
+
+        // note: reading US keeps it loaded, GERMANY is left idle
+        for (int i = 0; i < 10; i++) {
+            Thread.sleep(100);
+            assertNotNull(cache.get(Locale.US));
+        }
+        assertNull(cache.get(Locale.GERMANY));
+
+        Thread.sleep(600);
+        assertNull(cache.get(Locale.US));
+        assertEquals(List.of(Locale.GERMANY, Locale.US), removed);
+    }
+
+    @Test
+    void loadingExpiresOtherLocales() throws InterruptedException {
+        final TranslationCache cache = cache(CachePolicy.builder().expireAfterWrite(Duration.ofMillis(100)).build());
+        load(cache, Locale.US);
+
+        Thread.sleep(150);
+        load(cache, Locale.GERMANY);
+        assertEquals(List.of(Locale.US), removed);
+        assertEquals(1, cache.stats().localeCount());
+    }
+
+    private TranslationCache cache(final CachePolicy policy) {
+        return new TranslationCache(policy, removed::add);
+    }
+
+    private static void load(final TranslationCache cache, final Locale locale) {
+        cache.load(locale, l -> CompletableFuture.completedFuture(translations(l))).join();
+    }
+
+    private static Map<String, String> translations(final Locale locale) {
+        return Map.of("greeting", locale + ":hello", "farewell", locale + ":bye");
+    }
+}
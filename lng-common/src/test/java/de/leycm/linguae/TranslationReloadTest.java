@@ -0,0 +1,124 @@
+/**
+ * LECP-LICENSE NOTICE
+ * <br><br>
+ * This Sourcecode is under the LECP-LICENSE. <br>
+ * License at: <a href="https://github.com/leycm/leycm/blob/main/LICENSE">GITHUB</a>
+ * <br><br>
+ * Copyright (c) LeyCM <a href="mailto:leycm@proton.me">leycm@proton.me</a> l <br>
+ * Copyright (c) maintainers <br>
+ * Copyright (c) contributors
+ */
+package de.leycm.linguae;
+
+import de.leycm.linguae.source.JsonFileSource;
+import de.leycm.linguae.source.LinguaeSource;
+import lombok.NonNull;
+import org.junit.jupiter.api.Test;
+
+import java.io.Closeable;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks that reloaded translations replace the loaded ones at once, without readers
+ * ever observing a locale that is missing or half loaded.
+ */
+class TranslationReloadTest {
+
+    private static final Function<Locale, String> FALLBACK = locale -> "fallback";
+
+    @Test
+    void watchedFilesAreReloaded() throws Exception {
+        final Path directory = Files.createTempDirectory("linguae");
+        Files.writeString(directory.resolve("en_US.json"), "{\"greeting\": \"Hello\"}");
+        final CommonLinguaeProvider provider = CommonLinguaeProvider.builder().build(new JsonFileSource(directory.toString()));
+        assertEquals("Hello", provider.translate("greeting", FALLBACK, Locale.US));
+
+        final Closeable watch = provider.watchSource();
+        try {
+            Files.writeString(directory.resolve("en_US.json"), "{\"greeting\": \"Hi\", \"farewell\": \"Bye\"}");
+
+            awaitEquals("Hi", () -> provider.translate("greeting", FALLBACK, Locale.US));
+            assertEquals("Bye", provider.translate("farewell", FALLBACK, Locale.US));
+            assertEquals(1, provider.getCacheStats().loadCount());
+        } finally {
+            watch.close();
+        }
+    }
+
+    @Test
+    void readersNeverSeeAReloadingLocale() throws InterruptedException {
+        final AtomicInteger version = new AtomicInteger();
+        // note: loads run on the reloading thread, so each reload is published once clearCache returns
+        final CommonLinguaeProvider provider = CommonLinguaeProvider.builder()
+                .executor(Runnable::run)
+                .build(source(version));
+        assertEquals("v0", provider.translate("greeting", FALLBACK, Locale.US));
+
+        final AtomicBoolean stop = new AtomicBoolean();
+        final AtomicLong reads = new AtomicLong();
+        final ConcurrentLinkedQueue<String> unexpected = new ConcurrentLinkedQueue<>();
+        final List<Thread> readers = new ArrayList<>();
+        for (int i = 0; i < 2; i++) {
+            final Thread reader = new Thread(() -> {
+                while (!stop.get()) {
+                    final String value = provider.translate("greeting", FALLBACK, Locale.US);
+                    if (!value.startsWith("v")) unexpected.add(value);
+                    reads.incrementAndGet();
+                }
+            });
+            reader.start();
+            readers.add(reader);
+        }
+
+        for (int i = 1; i <= 200; i++) {
+            version.set(i);
+            provider.clearCache(Locale.US);
+        }
+        stop.set(true);
+        for (final Thread reader : readers) reader.join();
+
+        assertEquals(List.of(), List.copyOf(unexpected));
+        assertTrue(reads.get() > 0);
+        assertEquals("v200", provider.translate("greeting", FALLBACK, Locale.US));
+        assertEquals(1, provider.getCacheStats().missCount());
+    }
+
+    private static LinguaeSource source(final AtomicInteger version) {
+        return new LinguaeSource() {
+            @Override
+            public @NonNull List<Locale> getSupportedLanguages() {
+                return List.of(Locale.US);
+            }
+
+            @Override
+            public boolean supportsLanguage(final @NonNull Locale locale) {
+                return locale.equals(Locale.US);
+            }
+
+            @Override
+            public @NonNull Map<String, String> loadLanguage(final @NonNull Locale locale) {
+                return Map.of("greeting", "v" + version.get());
+            }
+        };
+    }
+
+    private static void awaitEquals(final String expected, final Supplier<String> actual) throws InterruptedException {
+        final long deadline = System.nanoTime() + 10_000_000_000L;
+        while (!expected.equals(actual.get()) && System.nanoTime() < deadline) Thread.sleep(20);
+        assertEquals(expected, actual.get());
+    }
+}
@@ -0,0 +1,114 @@
+/**
+ * LECP-LICENSE NOTICE
+ * <br><br>
+ * This Sourcecode is under the LECP-LICENSE. <br>
+ * License at: <a href="https://github.com/leycm/leycm/blob/main/LICENSE">GITHUB</a>
+ * <br><br>
+ * Copyright (c) LeyCM <a href="mailto:leycm@proton.me">leycm@proton.me</a> l <br>
+ * Copyright (c) maintainers <br>
+ * Copyright (c) contributors
+ */
+package de.leycm.linguae.source;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Checks {@link PropertiesTranslations} against {@link Properties#load(java.io.Reader)},
+ * which it replaces.
+ */
+class PropertiesTranslationsTest {
+
+    private static final String[] ATOMS = {
+            "a", "b", "=", ":", " ", "\t", "\f", "\n", "\r", "\r\n", "\\", "\\\\", "#", "!",
+            "\\u0041", "\\n", "\\t", "ä", "\\\n", "\\\r\n", "x y", "\\=", "\\:", "\\ ", "\\u00", "\\uZ123"
+    };
+
+    @Test
+    void separators() throws IOException {
+        assertParsedLikeProperties("a=1\nb:2\nc 3\nd\t4\ne = 5\nf : 6\ng\n");
+        assertParsedLikeProperties("a==1\nb=:2\nc :=3\n  d=4");
+    }
+
+    @Test
+    void comments() throws IOException {
+        assertParsedLikeProperties("# comment\n! comment\na=1 # not a comment\n  #b=2\n");
+    }
+
+    @Test
+    void escapes() throws IOException {
+        assertParsedLikeProperties("a=\\t\\n\\r\\f\\\\\\x\nk\\=ey=1\nk\\:ey=2\nk\\ ey=3\n\\#a=4");
+    }
+
+    @Test
+    void unicodeEscapes() throws IOException {
+        assertParsedLikeProperties("a=\\u0041\\u00e4\\u20AC\n\\u0062=2");
+        assertParsedLikeProperties("a=\\u00\\\n  41");
+    }
+
+    @Test
+    void malformedUnicodeEscapeFailsLikeProperties() {
+        assertThrows(IllegalArgumentException.class, () -> new Properties().load(new StringReader("a=\\u00")));
+        assertThrows(IllegalArgumentException.class, () -> PropertiesTranslations.parse("a=\\u00"));
+        assertThrows(IllegalArgumentException.class, () -> PropertiesTranslations.parse("a=\\uZ123"));
+    }
+
+    @Test
+    void continuations() throws IOException {
+        assertParsedLikeProperties("a=1\\\n   2\\\r\n\t3\nb=\\\n\nc\\\n d=4\n\\\n");
+        assertParsedLikeProperties("a=1\\");
+        assertParsedLikeProperties("\\\n");
+    }
+
+    @Test
+    void duplicateKeysKeepTheLastValue() throws IOException {
+        assertParsedLikeProperties("a=1\na=2\nb=3\nb=");
+    }
+
+    @Test
+    void matchesPropertiesOnRandomInput() throws IOException {
+        final Random random = new Random(7);
+        for (int i = 0; i < 50_000; i++) {
+            final StringBuilder text = new StringBuilder();
+            final int length = random.nextInt(25);
+            for (int j = 0; j < length; j++) text.append(ATOMS[random.nextInt(ATOMS.length)]);
+
+            final Properties properties = new Properties();
+            try {
+                properties.load(new StringReader(text.toString()));
+            } catch (IllegalArgumentException e) {
+                assertThrows(IllegalArgumentException.class, () -> PropertiesTranslations.parse(text.toString()),
+                        () -> "accepted malformed input: " + escape(text.toString()));
+                continue;
+            }
+            assertEquals(toMap(properties), new HashMap<>(PropertiesTranslations.parse(text.toString())),
+                    () -> "input: " + escape(text.toString()));
+        }
+    }
+
+    private static void assertParsedLikeProperties(final String text) throws IOException {
+        final Properties properties = new Properties();
+        properties.load(new StringReader(text));
+        assertEquals(toMap(properties), new HashMap<>(PropertiesTranslations.parse(text)), () -> "input: " + escape(text));
+    }
+
+    private static Map<String, String> toMap(final Properties properties) {
+        final Map<String, String> map = new HashMap<>();
+        properties.forEach((key, value) -> map.put((String) key, (String) value));
+        return map;
+    }
+
+    private static String escape(final String text) {
+        return text.replace("\\", "\\\\").replace("\n", "\\n").replace("\r", "\\r")
+                .replace("\t", "\\t").replace("\f", "\\f");
+    }
+}
@@ -0,0 +1,156 @@
+/**
+ * LECP-LICENSE NOTICE
+ * <br><br>
+ * This Sourcecode is under the LECP-LICENSE. <br>
+ * License at: <a href="https://github.com/leycm/leycm/blob/main/LICENSE">GITHUB</a>
+ * <br><br>
+ * Copyright (c) LeyCM <a href="mailto:leycm@proton.me">leycm@proton.me</a> l <br>
+ * Copyright (c) maintainers <br>
+ * Copyright (c) contributors
+ */
+package de.leycm.linguae.source;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Writes bundles with {@link BundleWriter} and reads them back through {@link TranslationBundle}.
+ */
+class TranslationBundleTest {
+
+    // note: "\uFFFD" sorts before "😀" by code point but after its surrogates by UTF-16 char
+    private static final String[] ATOMS = {"a", "b", "z", ".", "_", "0", "ä", "€", "中", "😀", "\uFFFD", "\uFB00"};
+    private static final List<Locale> LOCALES = List.of(Locale.US, Locale.GERMANY, Locale.forLanguageTag("zh-Hant-TW"));
+
+    @Test
+    void roundTripsIndexedLocales() throws IOException {
+        final Map<Locale, Map<String, String>> locales = randomLocales(new Random(3), 5_000);
+        final Path file = write(new BundleWriter(), locales);
+        final TranslationBundle bundle = TranslationBundle.open(file);
+
+        assertEquals(LOCALES, bundle.locales());
+        for (int i = 0; i < LOCALES.size(); i++) assertNotEquals(0, indexOffset(file, i));
+        assertReadsBack(bundle, locales, new Random(4));
+    }
+
+    @Test
+    void fallsBackToBinarySearchWithoutIndex() throws IOException {
+        final Map<Locale, Map<String, String>> locales = randomLocales(new Random(5), 5_000);
+        final Path file = write(new BundleWriter(0), locales);
+        final TranslationBundle bundle = TranslationBundle.open(file);
+
+        for (int i = 0; i < LOCALES.size(); i++) assertEquals(0, indexOffset(file, i));
+        assertReadsBack(bundle, locales, new Random(6));
+    }
+
+    @Test
+    void storesSharedStringsOnce() throws IOException {
+        final Map<String, String> translations = Map.of("greeting", "Hallo", "welcome", "Hallo", "äöü.😀", "ß");
+        final Path single = write(new BundleWriter(), Map.of(Locale.GERMANY, translations));
+        final Path shared = write(new BundleWriter(), Map.of(Locale.GERMANY, translations, Locale.of("de", "AT"), translations));
+
+        final int tags = "de-DE".length();
+        final int strings = utf8("greeting") + utf8("welcome") + utf8("äöü.😀") + utf8("Hallo") + utf8("ß");
+        assertEquals(tags + strings, poolLength(single));
+        assertEquals(tags + "de-AT".length() + strings, poolLength(shared));
+        assertEquals(translations, TranslationBundle.open(shared).translations(Locale.of("de", "AT")));
+    }
+
+    @Test
+    void emptyLocalesAndUnknownKeys() throws IOException {
+        final TranslationBundle bundle = TranslationBundle.open(write(new BundleWriter(), Map.of(Locale.US, Map.of())));
+
+        assertEquals(Map.of(), bundle.translations(Locale.US));
+        assertNull(bundle.translations(Locale.US).get("missing"));
+        assertNull(bundle.translations(Locale.GERMANY));
+        assertFalse(bundle.contains(Locale.GERMANY));
+    }
+
+    @Test
+    void rejectsOtherFiles() throws IOException {
+        final Path file = Files.createTempFile("bundle", ".lngb");
+        file.toFile().deleteOnExit();
+        Files.writeString(file, "{\"not\": \"a bundle, but long enough for a header\"}");
+
+        assertThrows(IOException.class, () -> TranslationBundle.open(file));
+    }
+
+    private static void assertReadsBack(final TranslationBundle bundle,
+                                        final Map<Locale, Map<String, String>> locales,
+                                        final Random random) {
+        for (final Locale locale : LOCALES) {
+            final Map<String, String> expected = locales.get(locale);
+            final Map<String, String> actual = bundle.translations(locale);
+
+            assertEquals(expected.size(), actual.size());
+            assertEquals(expected, new HashMap<>(actual), locale::toString);
+            for (final Map.Entry<String, String> entry : expected.entrySet()) {
+                assertEquals(entry.getValue(), actual.get(entry.getKey()), entry::getKey);
+                assertTrue(actual.containsKey(entry.getKey()), entry::getKey);
+            }
+
+            for (int i = 0; i < 5_000; i++) {
+                final String key = randomKey(random);
+                assertEquals(expected.get(key), actual.get(key), () -> key);
+            }
+        }
+    }
+
+    private static Map<Locale, Map<String, String>> randomLocales(final Random random, final int size) {
+        final Map<Locale, Map<String, String>> locales = new HashMap<>();
+        for (final Locale locale : LOCALES) {
+            final Map<String, String> translations = new HashMap<>();
+            while (translations.size() < size) translations.put(randomKey(random), locale + ":" + randomKey(random));
+            locales.put(locale, translations);
+        }
+        return locales;
+    }
+
+    private static String randomKey(final Random random) {
+        final StringBuilder key = new StringBuilder();
+        final int length = 1 + random.nextInt(6);
+        for (int i = 0; i < length; i++) key.append(ATOMS[random.nextInt(ATOMS.length)]);
+        return key.toString();
+    }
+
+    private static Path write(final BundleWriter writer, final Map<Locale, Map<String, String>> locales) throws IOException {
+        for (final Locale locale : LOCALES) if (locales.containsKey(locale)) writer.add(locale, locales.get(locale));
+        for (final Map.Entry<Locale, Map<String, String>> locale : locales.entrySet())
+            if (!LOCALES.contains(locale.getKey())) writer.add(locale.getKey(), locale.getValue());
+
+        final Path file = Files.createTempFile("bundle", ".lngb");
+        file.toFile().deleteOnExit();
+        writer.write(file);
+        return file;
+    }
+
+    private static int indexOffset(final Path file, final int locale) throws IOException {
+        return ByteBuffer.wrap(Files.readAllBytes(file))
+                .getInt(TranslationBundle.HEADER_SIZE + locale * TranslationBundle.LOCALE_SIZE + 16);
+    }
+
+    private static int poolLength(final Path file) throws IOException {
+        return ByteBuffer.wrap(Files.readAllBytes(file)).getInt(20);
+    }
+
+    private static int utf8(final String string) {
+        return string.getBytes(StandardCharsets.UTF_8).length;
+    }
+}
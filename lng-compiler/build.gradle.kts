@@ -0,0 +1,16 @@
+dependencies {
+    compileOnly(libs.jetanno)
+
+    implementation(project(":api"))
+    implementation(project(":common"))
+}
+
+tasks.withType<Jar> {
+    manifest {
+        attributes("Main-Class" to "de.leycm.linguae.compiler.BundleCompiler")
+    }
+}
+
+tasks.named("sourcesJar") {
+    mustRunAfter(":api:jar", ":common:jar")
+}
@@ -0,0 +1,209 @@
+/**
+ * LECP-LICENSE NOTICE
+ * <br><br>
+ * This Sourcecode is under the LECP-LICENSE. <br>
+ * License at: <a href="https://github.com/leycm/leycm/blob/main/LICENSE">GITHUB</a>
+ * <br><br>
+ * Copyright (c) LeyCM <a href="mailto:leycm@proton.me">leycm@proton.me</a> l <br>
+ * Copyright (c) maintainers <br>
+ * Copyright (c) contributors
+ */
+package de.leycm.linguae.compiler;
+
+import de.leycm.linguae.mapping.MappingRule;
+import de.leycm.linguae.mapping.MessageTemplate;
+import de.leycm.linguae.source.BundleWriter;
+import de.leycm.linguae.source.JsonFileSource;
+import de.leycm.linguae.source.LinguaeSource;
+import de.leycm.linguae.source.PropertiesFileSource;
+import lombok.NonNull;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.Nullable;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Compiles a directory of {@code xx_YY.json} and {@code xx_YY.properties} language files
+ * into one bundle for {@link de.leycm.linguae.source.BundleFileSource}, so servers never
+ * parse them at runtime.
+ *
+ * <p>Besides writing the bundle, the compiler parses every translation with the configured
+ * {@link MappingRule} and reports translations whose placeholders differ from the
+ * reference locale, e.g. a {@code %name} that was translated by accident. In strict mode
+ * the bundle is only written if no such problem is found.</p>
+ *
+ * <p>The bundle stores translations as plain text, the parse here only checks them.
+ * Providers still parse each translation into a {@link MessageTemplate} on its first
+ * render per locale and rule, and reuse the cached template afterwards.</p>
+ *
+ * <pre>
+ * java -jar ley-linguae-compiler.jar &lt;source-dir&gt; &lt;bundle-file&gt; [options]
+ *   --rule &lt;fstring|dollar|percent|curly|mini_message&gt;  placeholder syntax (default: fstring)
+ *   --prefix &lt;prefix&gt; --suffix &lt;suffix&gt;              custom placeholder syntax
+ *   --reference &lt;tag&gt;                                  locale to compare against (default: en-US)
+ *   --strict                                          fail if any placeholder differs
+ * </pre>
+ *
+ * @since 1.3.0
+ * @author Lennard [leycm@proton.me]
+ */
+public final class BundleCompiler {
+
+    private static final String USAGE = "Usage: <source-dir> <bundle-file> [--rule <name>]"
+            + " [--prefix <prefix> --suffix <suffix>] [--reference <tag>] [--strict]";
+
+    private final MappingRule rule;
+    private final Locale reference;
+    private final boolean strict;
+
+    public BundleCompiler(final @NonNull MappingRule rule,
+                          final @NonNull Locale reference) {
+        this(rule, reference, false);
+    }
+
+    /**
+     * Creates a compiler that, if {@code strict}, refuses to write bundles with placeholder problems.
+     *
+     * @param rule the placeholder syntax of the translations
+     * @param reference the locale other locales are compared against
+     * @param strict whether placeholder problems prevent writing the bundle
+     * @throws NullPointerException if rule or reference is null
+     */
+    public BundleCompiler(final @NonNull MappingRule rule,
+                          final @NonNull Locale reference,
+                          final boolean strict) {
+        this.rule = rule;
+        this.reference = reference;
+        this.strict = strict;
+    }
+
+    /**
+     * Compiles every language file of a directory into a bundle.
+     *
+     * <p>Placeholders are checked before anything is written. In strict mode a bundle
+     * with problems is not written, and an existing {@code target} is left untouched.</p>
+     *
+     * @param source the directory containing the language files
+     * @param target the bundle file to create or replace
+     * @return the placeholder problems found, empty if every locale matches the reference
+     * @throws Exception if a language file cannot be read or the bundle cannot be written
+     * @throws NullPointerException if source or target is null
+     */
+    public @NonNull List<String> compile(final @NonNull Path source,
+                                         final @NonNull Path target) throws Exception {
+        final Map<Locale, Map<String, String>> locales = new TreeMap<>((a, b) ->
+                a.toLanguageTag().compareTo(b.toLanguageTag()));
+        // note: JSON is read last, so it wins if a key exists in both formats
+        for (final LinguaeSource languages : List.of(new PropertiesFileSource(source.toString()),
+                new JsonFileSource(source.toString()))) {
+            for (final Locale locale : languages.getSupportedLanguages())
+                locales.computeIfAbsent(locale, l -> new HashMap<>()).putAll(languages.loadLanguage(locale));
+        }
+
+        final List<String> problems = check(locales);
+        if (strict && !problems.isEmpty()) return problems;
+
+        final BundleWriter writer = new BundleWriter();
+        locales.forEach(writer::add);
+        writer.write(target);
+        return problems;
+    }
+
+    private @NonNull List<String> check(final @NonNull Map<Locale, Map<String, String>> locales) {
+        final Map<String, String> expected = locales.get(reference);
+        if (expected == null) return List.of();
+
+        final List<String> problems = new ArrayList<>();
+        for (final Map.Entry<Locale, Map<String, String>> locale : locales.entrySet()) {
+            if (locale.getKey().equals(reference)) continue;
+            locale.getValue().forEach((key, value) -> {
+                final String original = expected.get(key);
+                if (original == null) return;
+
+                final Set<String> have = placeholders(value);
+                final Set<String> want = placeholders(original);
+                if (!have.equals(want)) problems.add(locale.getKey().toLanguageTag() + ": '" + key
+                        + "' uses " + have + " but " + reference.toLanguageTag() + " uses " + want);
+            });
+        }
+        return problems;
+    }
+
+    private @NonNull Set<String> placeholders(final @NonNull String value) {
+        final MessageTemplate template = MessageTemplate.compile(value, rule);
+        final Set<String> keys = new HashSet<>(template.size() * 2);
+        for (int i = 0; i < template.size(); i++) keys.add(template.key(i));
+        return keys;
+    }
+
+    public static void main(final String @NonNull [] args) throws Exception {
+        if (args.length < 2) usage(null);
+
+        MappingRule rule = MappingRule.FSTRING;
+        String prefix = null;
+        String suffix = "";
+        Locale reference = Locale.US;
+        boolean strict = false;
+
+        try {
+            for (int i = 2; i < args.length; i++) {
+                switch (args[i]) {
+                    case "--rule" -> rule = rule(value(args, i++));
+                    case "--prefix" -> prefix = value(args, i++);
+                    case "--suffix" -> suffix = value(args, i++);
+                    case "--reference" -> reference = Locale.forLanguageTag(value(args, i++));
+                    case "--strict" -> strict = true;
+                    default -> throw new IllegalArgumentException("Unknown option: " + args[i]);
+                }
+            }
+        } catch (IllegalArgumentException e) {
+            usage(e.getMessage());
+        }
+        if (prefix != null) rule = new MappingRule(prefix, suffix);
+
+        final Path source = Paths.get(args[0]);
+        final Path target = Paths.get(args[1]);
+        final List<String> problems = new BundleCompiler(rule, reference, strict).compile(source, target);
+
+        problems.forEach(problem -> System.err.println("warning: " + problem));
+        if (strict && !problems.isEmpty()) {
+            System.err.println("Not writing " + target + ": " + problems.size() + " placeholder problem(s)");
+            System.exit(1);
+        }
+        System.out.println("Wrote " + target + " (" + Files.size(target) + " bytes)");
+    }
+
+    private static @NonNull String value(final String @NonNull [] args, final int option) {
+        if (option + 1 >= args.length) throw new IllegalArgumentException("Missing value for option: " + args[option]);
+        return args[option + 1];
+    }
+
+    @Contract("_ -> fail")
+    private static void usage(final @Nullable String error) {
+        if (error != null) System.err.println("error: " + error);
+        System.err.println(USAGE);
+        System.exit(2);
+    }
+
+    @Contract(pure = true)
+    private static @NonNull MappingRule rule(final @NonNull String name) {
+        return switch (name.toLowerCase(Locale.ROOT)) {
+            case "fstring" -> MappingRule.FSTRING;
+            case "dollar" -> MappingRule.DOLLAR;
+            case "percent" -> MappingRule.PERCENT;
+            case "curly" -> MappingRule.CURLY;
+            case "mini_message" -> MappingRule.MINI_MESSAGE;
+            default -> throw new IllegalArgumentException("Unknown mapping rule: " + name);
+        };
+    }
+}
@@ -53,7 +53,8 @@ dependencyResolutionManagement {
 // ─────────────────────────────
 rootProject.name = "ley-linguae"
 
-include("api", "common")
+include("api", "common", "compiler")
 
 project(":api").projectDir = file("lng-api")
 project(":common").projectDir = file("lng-common")
+project(":compiler").projectDir = file("lng-compiler")